@@ -2,6 +2,8 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.5.6"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.3"
+	id("org.graalvm.buildtools.native") version "0.10.6"
 }
 
 group = "seunghun"
@@ -19,12 +21,51 @@ repositories {
 }
 
 dependencies {
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
 	implementation("org.springframework.boot:spring-boot-starter-validation")
 	implementation("org.springframework.boot:spring-boot-starter-web")
+	annotationProcessor(project(":validation-processor"))
 	testImplementation("org.springframework.boot:spring-boot-starter-test")
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+	jmhImplementation("org.springframework:spring-test")
 }
 
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+// 실제 서버를 띄워 HTTP로 부하를 주는 하네스. 테스트/벤치마크와 분리해 필요할 때만 실행한다
+val loadTest by sourceSets.creating {
+	compileClasspath += sourceSets.main.get().output + configurations.runtimeClasspath.get()
+	runtimeClasspath += output + compileClasspath
+}
+
+// ./gradlew loadTest -PloadTestArgs="duration=30 concurrency=256"
+tasks.register<JavaExec>("loadTest") {
+	description = "Compares validation endpoints under load on platform and virtual threads"
+	group = "verification"
+	classpath = loadTest.runtimeClasspath
+	mainClass = "seunghun.springvalidation.loadtest.ValidationLoadTest"
+	args = providers.gradleProperty("loadTestArgs").map { it.split(" ") }.getOrElse(emptyList())
+	jvmArgs("-Xms1g", "-Xmx1g")
+}
+
+jmh {
+	jmhVersion = "1.37"
+	fork = 1
+	warmupIterations = 3
+	iterations = 5
+	resultFormat = "JSON"
+	includes = providers.gradleProperty("jmhIncludes").map { listOf(it) }.orElse(listOf(".*Benchmark.*"))
+}
+
+// ./gradlew nativeCompile: native 실행 파일, ./gradlew nativeTest: 기존 컨트롤러 테스트를 native로 실행
+graalvmNative {
+	testSupport = true
+	binaries {
+		named("main") {
+			imageName = "spring-validation"
+		}
+	}
+}
@@ -1 +1,4 @@
 rootProject.name = "spring-validation"
+
+include("validation-processor")
+include("validation-reactive")
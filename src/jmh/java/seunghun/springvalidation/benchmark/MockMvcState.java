@@ -0,0 +1,54 @@
+package seunghun.springvalidation.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import seunghun.springvalidation.SpringValidationApplication;
+
+/**
+ * 벤치마크 전체에서 공유하는 애플리케이션 컨텍스트와 MockMvc
+ */
+@State(Scope.Benchmark)
+public class MockMvcState {
+	private ConfigurableApplicationContext context;
+	private MockMvc mockMvc;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = new SpringApplicationBuilder(SpringValidationApplication.class)
+			.properties(
+				"server.port=0",
+				"spring.main.banner-mode=off",
+				"logging.level.root=warn",
+				"logging.level.web=warn"
+			)
+			.properties(additionalProperties())
+			.run();
+
+		mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext)context).build();
+	}
+
+	// 설정을 바꿔 비교하는 벤치마크에서 재정의한다
+	protected String[] additionalProperties() {
+		return new String[0];
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	public MvcResult perform(RequestBuilder requestBuilder) throws Exception {
+		return mockMvc.perform(requestBuilder).andReturn();
+	}
+}
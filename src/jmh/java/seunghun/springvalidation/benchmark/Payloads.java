@@ -0,0 +1,41 @@
+package seunghun.springvalidation.benchmark;
+
+/**
+ * 벤치마크에서 사용하는 요청 본문
+ */
+final class Payloads {
+	static final String VALID_CONTENT = """
+		{"user":{"name":"seunghun","age":20},"content":"content"}
+		""";
+
+	static final String INVALID_CONTENT = """
+		{"user":{"name":"","age":5},"content":""}
+		""";
+
+	static final String VALID_USER = """
+		{"name":"seunghun","age":20}
+		""";
+
+	static final String INVALID_USER = """
+		{"name":"  ","age":null}
+		""";
+
+	static final String VALID_GROUP = """
+		{"name":"group","users":[{"name":"seunghun","age":20},{"name":"함승훈","age":30}]}
+		""";
+
+	static final String INVALID_GROUP = """
+		{"name":"","users":[{"name":"","age":5},{"name":"함승훈","age":1}]}
+		""";
+
+	static final String VALID_USERS = """
+		[{"name":"seunghun","age":20},{"name":"함승훈","age":30}]
+		""";
+
+	static final String INVALID_USERS = """
+		[{"name":"","age":5},{"name":"","age":20}]
+		""";
+
+	private Payloads() {
+	}
+}
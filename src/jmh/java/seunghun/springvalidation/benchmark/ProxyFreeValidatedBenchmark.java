@@ -0,0 +1,56 @@
+package seunghun.springvalidation.benchmark;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * ValidatedController를 AOP 프록시({@code proxyFree=false})와 프록시 없는 검증({@code proxyFree=true})으로 호출해 비교
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProxyFreeValidatedBenchmark {
+	@State(Scope.Benchmark)
+	public static class ProxyFreeState extends MockMvcState {
+		@Param({"false", "true"})
+		public boolean proxyFree;
+
+		@Override
+		protected String[] additionalProperties() {
+			return new String[] {"validation.proxy-free.enabled=" + proxyFree};
+		}
+	}
+
+	@Benchmark
+	public MvcResult requestParamValid(ProxyFreeState state) throws Exception {
+		return state.perform(get("/validated/request-param")
+			.queryParam("age", "10")
+			.queryParam("name", "seunghun"));
+	}
+
+	@Benchmark
+	public MvcResult requestParamInvalid(ProxyFreeState state) throws Exception {
+		return state.perform(get("/validated/request-param")
+			.queryParam("age", "-1")
+			.queryParam("name", "seunghun"));
+	}
+
+	@Benchmark
+	public MvcResult pathVariableValid(ProxyFreeState state) throws Exception {
+		return state.perform(get("/validated/path-variable/{name}/{age}", "seunghun", "10"));
+	}
+
+	@Benchmark
+	public MvcResult pathVariableInvalid(ProxyFreeState state) throws Exception {
+		return state.perform(get("/validated/path-variable/{name}/{age}", "seunghun", "-1"));
+	}
+}
@@ -0,0 +1,71 @@
+package seunghun.springvalidation.benchmark;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * {@code @Valid}(ValidController) 검증 비용 측정
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ValidControllerBenchmark {
+	@Benchmark
+	public MvcResult requestParamValid(MockMvcState state) throws Exception {
+		return state.perform(get("/valid/request-param")
+			.queryParam("age", "10")
+			.queryParam("name", "seunghun"));
+	}
+
+	@Benchmark
+	public MvcResult requestParamInvalid(MockMvcState state) throws Exception {
+		return state.perform(get("/valid/request-param")
+			.queryParam("age", "-1")
+			.queryParam("name", "seunghun"));
+	}
+
+	@Benchmark
+	public MvcResult requestParamModelValid(MockMvcState state) throws Exception {
+		return state.perform(get("/valid/model/request-param")
+			.queryParam("age", "10")
+			.queryParam("name", "seunghun"));
+	}
+
+	@Benchmark
+	public MvcResult requestParamModelInvalid(MockMvcState state) throws Exception {
+		return state.perform(get("/valid/model/request-param")
+			.queryParam("age", "-1")
+			.queryParam("name", "seunghun"));
+	}
+
+	@Benchmark
+	public MvcResult pathVariableValid(MockMvcState state) throws Exception {
+		return state.perform(get("/valid/path-variable/{name}/{age}", "seunghun", "10"));
+	}
+
+	@Benchmark
+	public MvcResult pathVariableInvalid(MockMvcState state) throws Exception {
+		return state.perform(get("/valid/path-variable/{name}/{age}", "seunghun", "-1"));
+	}
+
+	@Benchmark
+	public MvcResult requestBodyValid(MockMvcState state) throws Exception {
+		return state.perform(post("/valid/request-body")
+			.content(Payloads.VALID_CONTENT)
+			.contentType(MediaType.APPLICATION_JSON));
+	}
+
+	@Benchmark
+	public MvcResult requestBodyInvalid(MockMvcState state) throws Exception {
+		return state.perform(post("/valid/request-body")
+			.content(Payloads.INVALID_CONTENT)
+			.contentType(MediaType.APPLICATION_JSON));
+	}
+}
@@ -0,0 +1,103 @@
+package seunghun.springvalidation.benchmark;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * ValidationTestController + GlobalExceptionHandler 검증 비용 측정
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ValidationTestControllerBenchmark {
+	private static final String BASE_PATH = "/handle/api/test";
+
+	@Benchmark
+	public MvcResult singleParamValid(MockMvcState state) throws Exception {
+		return state.perform(get(BASE_PATH + "/single-param").queryParam("age", "10"));
+	}
+
+	@Benchmark
+	public MvcResult singleParamInvalid(MockMvcState state) throws Exception {
+		return state.perform(get(BASE_PATH + "/single-param").queryParam("age", "1"));
+	}
+
+	@Benchmark
+	public MvcResult multipleParamValid(MockMvcState state) throws Exception {
+		return state.perform(get(BASE_PATH + "/multiple-param")
+			.queryParam("page", "1")
+			.queryParam("size", "10")
+			.queryParam("keyword", "spring"));
+	}
+
+	@Benchmark
+	public MvcResult multipleParamInvalid(MockMvcState state) throws Exception {
+		return state.perform(get(BASE_PATH + "/multiple-param")
+			.queryParam("page", "0")
+			.queryParam("size", "0")
+			.queryParam("keyword", ""));
+	}
+
+	@Benchmark
+	public MvcResult requestBodyValid(MockMvcState state) throws Exception {
+		return state.perform(post(BASE_PATH + "/request-body")
+			.content(Payloads.VALID_USER)
+			.contentType(MediaType.APPLICATION_JSON));
+	}
+
+	@Benchmark
+	public MvcResult requestBodyInvalid(MockMvcState state) throws Exception {
+		return state.perform(post(BASE_PATH + "/request-body")
+			.content(Payloads.INVALID_USER)
+			.contentType(MediaType.APPLICATION_JSON));
+	}
+
+	@Benchmark
+	public MvcResult nestedValid(MockMvcState state) throws Exception {
+		return state.perform(post(BASE_PATH + "/nested")
+			.content(Payloads.VALID_CONTENT)
+			.contentType(MediaType.APPLICATION_JSON));
+	}
+
+	@Benchmark
+	public MvcResult nestedInvalid(MockMvcState state) throws Exception {
+		return state.perform(post(BASE_PATH + "/nested")
+			.content(Payloads.INVALID_CONTENT)
+			.contentType(MediaType.APPLICATION_JSON));
+	}
+
+	@Benchmark
+	public MvcResult nestedListValid(MockMvcState state) throws Exception {
+		return state.perform(post(BASE_PATH + "/nested-list")
+			.content(Payloads.VALID_GROUP)
+			.contentType(MediaType.APPLICATION_JSON));
+	}
+
+	@Benchmark
+	public MvcResult nestedListInvalid(MockMvcState state) throws Exception {
+		return state.perform(post(BASE_PATH + "/nested-list")
+			.content(Payloads.INVALID_GROUP)
+			.contentType(MediaType.APPLICATION_JSON));
+	}
+
+	@Benchmark
+	public MvcResult usersListValid(MockMvcState state) throws Exception {
+		return state.perform(post(BASE_PATH + "/users-list")
+			.content(Payloads.VALID_USERS)
+			.contentType(MediaType.APPLICATION_JSON));
+	}
+
+	@Benchmark
+	public MvcResult usersListInvalid(MockMvcState state) throws Exception {
+		return state.perform(post(BASE_PATH + "/users-list")
+			.content(Payloads.INVALID_USERS)
+			.contentType(MediaType.APPLICATION_JSON));
+	}
+}
@@ -0,0 +1,63 @@
+package seunghun.springvalidation.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 응답 시간을 박싱 없이 모은다. 워커마다 하나씩 두고 측정이 끝난 뒤 합친다
+ */
+final class LatencyRecorder {
+	private long[] nanos = new long[1 << 14];
+	private int size;
+	private long serverErrors;
+
+	void record(long latencyNanos, int status) {
+		if (size == nanos.length) {
+			nanos = Arrays.copyOf(nanos, size * 2);
+		}
+
+		nanos[size++] = latencyNanos;
+		if (status >= 500) {
+			serverErrors++;
+		}
+	}
+
+	void recordFailure() {
+		serverErrors++;
+	}
+
+	int size() {
+		return size;
+	}
+
+	long serverErrors() {
+		return serverErrors;
+	}
+
+	static LatencyRecorder merge(Iterable<LatencyRecorder> recorders) {
+		LatencyRecorder merged = new LatencyRecorder();
+		for (LatencyRecorder recorder : recorders) {
+			if (merged.size + recorder.size > merged.nanos.length) {
+				merged.nanos = Arrays.copyOf(merged.nanos, Math.max(merged.size + recorder.size, merged.nanos.length * 2));
+			}
+
+			System.arraycopy(recorder.nanos, 0, merged.nanos, merged.size, recorder.size);
+			merged.size += recorder.size;
+			merged.serverErrors += recorder.serverErrors;
+		}
+
+		Arrays.sort(merged.nanos, 0, merged.size);
+		return merged;
+	}
+
+	/**
+	 * merge로 정렬된 뒤에만 호출한다
+	 */
+	double percentileMillis(double percentile) {
+		if (size == 0) {
+			return 0;
+		}
+
+		int index = (int)Math.ceil(percentile / 100 * size) - 1;
+		return nanos[Math.max(index, 0)] / 1_000_000.0;
+	}
+}
@@ -0,0 +1,65 @@
+package seunghun.springvalidation.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.List;
+
+/**
+ * 부하 하네스가 보내는 요청 하나
+ *
+ * @param group 결과를 묶어 보여줄 컨트롤러 경로 (/valid, /validated, /constraints, /handle)
+ * @param body null이면 GET
+ */
+record LoadScenario(
+	String group,
+	String name,
+	String path,
+	String body,
+	boolean valid
+) {
+	private static final String VALID_CONTENT = "{\"user\":{\"name\":\"seunghun\",\"age\":20},\"content\":\"content\"}";
+	private static final String INVALID_CONTENT = "{\"user\":{\"name\":\"\",\"age\":5},\"content\":\"\"}";
+	private static final String VALID_USER = "{\"name\":\"seunghun\",\"age\":20}";
+	private static final String INVALID_USER = "{\"name\":\"  \",\"age\":null}";
+	private static final String VALID_USERS = "[{\"name\":\"seunghun\",\"age\":20},{\"name\":\"함승훈\",\"age\":30}]";
+	private static final String INVALID_USERS = "[{\"name\":\"\",\"age\":5},{\"name\":\"\",\"age\":20}]";
+
+	/**
+	 * 정상/실패 요청을 번갈아 섞은 목록. 워커는 이 목록을 순서대로 돌며 요청한다
+	 */
+	static List<LoadScenario> mixed() {
+		return List.of(
+			new LoadScenario("/valid", "request-param", "/valid/request-param?age=10&name=seunghun", null, true),
+			new LoadScenario("/valid", "request-param", "/valid/request-param?age=-1&name=seunghun", null, false),
+			new LoadScenario("/valid", "request-body", "/valid/request-body", VALID_CONTENT, true),
+			new LoadScenario("/valid", "request-body", "/valid/request-body", INVALID_CONTENT, false),
+			new LoadScenario("/validated", "request-param", "/validated/request-param?age=10&name=seunghun", null, true),
+			new LoadScenario("/validated", "request-param", "/validated/request-param?age=-1&name=seunghun", null, false),
+			new LoadScenario("/validated", "request-body", "/validated/request-body", VALID_CONTENT, true),
+			new LoadScenario("/validated", "request-body", "/validated/request-body", INVALID_CONTENT, false),
+			new LoadScenario("/constraints", "request-param", "/constraints/request-param?age=10&name=seunghun", null, true),
+			new LoadScenario("/constraints", "request-param", "/constraints/request-param?age=-1&name=seunghun", null, false),
+			new LoadScenario("/constraints", "request-body", "/constraints/request-body", VALID_CONTENT, true),
+			new LoadScenario("/constraints", "request-body", "/constraints/request-body", INVALID_CONTENT, false),
+			new LoadScenario("/handle", "single-param", "/handle/api/test/single-param?age=10", null, true),
+			new LoadScenario("/handle", "single-param", "/handle/api/test/single-param?age=1", null, false),
+			new LoadScenario("/handle", "request-body", "/handle/api/test/request-body", VALID_USER, true),
+			new LoadScenario("/handle", "request-body", "/handle/api/test/request-body", INVALID_USER, false),
+			new LoadScenario("/handle", "nested", "/handle/api/test/nested", VALID_CONTENT, true),
+			new LoadScenario("/handle", "nested", "/handle/api/test/nested", INVALID_CONTENT, false),
+			new LoadScenario("/handle", "users-list", "/handle/api/test/users-list", VALID_USERS, true),
+			new LoadScenario("/handle", "users-list", "/handle/api/test/users-list", INVALID_USERS, false)
+		);
+	}
+
+	HttpRequest toRequest(String baseUrl) {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path));
+		if (body == null) {
+			return builder.GET().build();
+		}
+
+		return builder.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString(body))
+			.build();
+	}
+}
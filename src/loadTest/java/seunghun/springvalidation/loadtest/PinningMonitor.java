@@ -0,0 +1,85 @@
+package seunghun.springvalidation.loadtest;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * 측정 구간 동안 jdk.VirtualThreadPinned 이벤트를 모은다.
+ * 부하를 주는 클라이언트도 같은 JVM의 가상 스레드이므로 서버 쪽 프레임이 있는 이벤트만 센다.
+ */
+final class PinningMonitor implements AutoCloseable {
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+	private static final List<String> SERVER_PACKAGES = List.of(
+		"seunghun.springvalidation.",
+		"org.hibernate.validator.",
+		"org.springframework.",
+		"org.apache.catalina.",
+		"org.apache.tomcat.",
+		"org.apache.coyote.",
+		"com.fasterxml.jackson."
+	);
+	private static final int STACK_DEPTH = 8;
+
+	private final RecordingStream stream = new RecordingStream();
+	private final AtomicLong serverEvents = new AtomicLong();
+	private final Map<String, Long> stacks = new ConcurrentHashMap<>();
+
+	PinningMonitor() {
+		// 기본 임계값(20ms)보다 짧은 고정도 모두 기록한다
+		stream.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+		stream.onEvent(PINNED_EVENT, this::onPinned);
+		stream.startAsync();
+	}
+
+	private void onPinned(RecordedEvent event) {
+		RecordedStackTrace stackTrace = event.getStackTrace();
+		if (stackTrace == null || stackTrace.getFrames().stream().noneMatch(PinningMonitor::isServerFrame)) {
+			return;
+		}
+
+		serverEvents.incrementAndGet();
+		String stack = stackTrace.getFrames()
+			.stream()
+			.limit(STACK_DEPTH)
+			.map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber())
+			.collect(Collectors.joining("\n      "));
+		stacks.merge(stack, 1L, Long::sum);
+	}
+
+	private static boolean isServerFrame(RecordedFrame frame) {
+		String typeName = frame.getMethod().getType().getName();
+		return !typeName.startsWith("seunghun.springvalidation.loadtest.")
+			&& SERVER_PACKAGES.stream().anyMatch(typeName::startsWith);
+	}
+
+	long serverEvents() {
+		return serverEvents.get();
+	}
+
+	List<Map.Entry<String, Long>> topStacks(int limit) {
+		return stacks.entrySet()
+			.stream()
+			.sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+			.limit(limit)
+			.toList();
+	}
+
+	/**
+	 * 아직 전달되지 않은 이벤트까지 받은 뒤 멈춘다
+	 */
+	@Override
+	public void close() {
+		stream.stop();
+		stream.close();
+	}
+}
@@ -0,0 +1,189 @@
+package seunghun.springvalidation.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import seunghun.springvalidation.SpringValidationApplication;
+
+/**
+ * 플랫폼 스레드와 가상 스레드(virtual 프로필)로 각각 실제 서버를 띄우고, 정상/실패 요청을 섞어 보내
+ * 컨트롤러 경로별 처리량과 p50/p99, 서버 코드에서 발생한 캐리어 고정(pinning) 이벤트를 비교한다.
+ *
+ * <p>인자는 {@code key=value} 형식이다: duration(초, 기본 30), warmup(초, 기본 10), concurrency(기본 256), modes(기본 platform,virtual)
+ */
+public final class ValidationLoadTest {
+	private static final String TOTAL = "total";
+
+	private ValidationLoadTest() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		Map<String, String> options = parseOptions(args);
+		Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+		Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+		int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "256"));
+		List<String> modes = List.of(options.getOrDefault("modes", "platform,virtual").split(","));
+
+		Map<String, ModeResult> results = new LinkedHashMap<>();
+		for (String mode : modes) {
+			results.put(mode, run(mode, duration, warmup, concurrency));
+		}
+
+		System.out.println();
+		System.out.printf("== 요약 (concurrency=%d, duration=%ds) ==%n", concurrency, duration.toSeconds());
+		System.out.printf("%-10s %12s %10s %10s %10s %14s%n", "mode", "req/s", "p50(ms)", "p99(ms)", "5xx/IO", "pinned(server)");
+		results.forEach((mode, result) -> {
+			LatencyRecorder total = result.recorders().get(TOTAL);
+			System.out.printf(
+				"%-10s %12.1f %10.3f %10.3f %10d %14d%n",
+				mode,
+				total.size() / (double)duration.toSeconds(),
+				total.percentileMillis(50),
+				total.percentileMillis(99),
+				total.serverErrors(),
+				result.pinnedEvents()
+			);
+		});
+	}
+
+	private static ModeResult run(String mode, Duration duration, Duration warmup, int concurrency) {
+		boolean virtual = "virtual".equals(mode);
+		SpringApplicationBuilder builder = new SpringApplicationBuilder(SpringValidationApplication.class)
+			.properties(
+				"server.port=0",
+				"spring.main.banner-mode=off",
+				"logging.level.root=warn",
+				"logging.level.web=warn"
+			);
+		if (virtual) {
+			builder.profiles("virtual");
+		}
+
+		try (ConfigurableApplicationContext context = builder.run()) {
+			int port = ((WebServerApplicationContext)context).getWebServer().getPort();
+			String baseUrl = "http://localhost:" + port;
+			List<LoadScenario> scenarios = LoadScenario.mixed();
+			List<HttpRequest> requests = scenarios.stream().map(scenario -> scenario.toRequest(baseUrl)).toList();
+			HttpClient client = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(Duration.ofSeconds(5))
+				.build();
+
+			System.out.printf("%n[%s] warm-up %ds ...%n", mode, warmup.toSeconds());
+			drive(client, scenarios, requests, concurrency, warmup);
+
+			Map<String, LatencyRecorder> recorders;
+			PinningMonitor pinningMonitor = new PinningMonitor();
+			try {
+				System.out.printf("[%s] measuring %ds ...%n", mode, duration.toSeconds());
+				recorders = drive(client, scenarios, requests, concurrency, duration);
+			} finally {
+				pinningMonitor.close();
+			}
+
+			print(mode, recorders, duration, pinningMonitor);
+			return new ModeResult(recorders, pinningMonitor.serverEvents());
+		}
+	}
+
+	// 워커마다 목록의 다른 위치에서 시작해 같은 순간에 같은 엔드포인트로 몰리지 않게 한다
+	private static Map<String, LatencyRecorder> drive(
+		HttpClient client,
+		List<LoadScenario> scenarios,
+		List<HttpRequest> requests,
+		int concurrency,
+		Duration duration
+	) {
+		long deadline = System.nanoTime() + duration.toNanos();
+		List<Map<String, LatencyRecorder>> workerRecorders = new ArrayList<>(concurrency);
+
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int worker = 0; worker < concurrency; worker++) {
+				Map<String, LatencyRecorder> recorders = new HashMap<>();
+				workerRecorders.add(recorders);
+				int offset = worker;
+
+				executor.submit(() -> {
+					int index = offset;
+					while (System.nanoTime() < deadline) {
+						int scenarioIndex = index++ % scenarios.size();
+						LatencyRecorder recorder = recorders.computeIfAbsent(scenarios.get(scenarioIndex).group(), group -> new LatencyRecorder());
+						long start = System.nanoTime();
+						try {
+							HttpResponse<Void> response = client.send(requests.get(scenarioIndex), HttpResponse.BodyHandlers.discarding());
+							recorder.record(System.nanoTime() - start, response.statusCode());
+						} catch (IOException exception) {
+							recorder.recordFailure();
+						} catch (InterruptedException exception) {
+							Thread.currentThread().interrupt();
+							return;
+						}
+					}
+				});
+			}
+		}
+
+		Map<String, List<LatencyRecorder>> byGroup = new LinkedHashMap<>();
+		for (LoadScenario scenario : scenarios) {
+			byGroup.computeIfAbsent(scenario.group(), group -> new ArrayList<>());
+		}
+		for (Map<String, LatencyRecorder> recorders : workerRecorders) {
+			recorders.forEach((group, recorder) -> byGroup.get(group).add(recorder));
+		}
+
+		Map<String, LatencyRecorder> merged = new LinkedHashMap<>();
+		byGroup.forEach((group, recorders) -> merged.put(group, LatencyRecorder.merge(recorders)));
+		merged.put(TOTAL, LatencyRecorder.merge(merged.values()));
+		return merged;
+	}
+
+	private static void print(String mode, Map<String, LatencyRecorder> recorders, Duration duration, PinningMonitor pinningMonitor) {
+		System.out.printf("%-14s %10s %12s %10s %10s %10s%n", "group", "requests", "req/s", "p50(ms)", "p99(ms)", "5xx/IO");
+		recorders.forEach((group, recorder) -> System.out.printf(
+			"%-14s %10d %12.1f %10.3f %10.3f %10d%n",
+			group,
+			recorder.size(),
+			recorder.size() / (double)duration.toSeconds(),
+			recorder.percentileMillis(50),
+			recorder.percentileMillis(99),
+			recorder.serverErrors()
+		));
+
+		System.out.printf("[%s] 서버 코드에서 발생한 캐리어 고정: %d건%n", mode, pinningMonitor.serverEvents());
+		for (Map.Entry<String, Long> stack : pinningMonitor.topStacks(5)) {
+			System.out.printf("  %d x %s%n", stack.getValue(), stack.getKey());
+		}
+	}
+
+	private static Map<String, String> parseOptions(String[] args) {
+		Map<String, String> options = new HashMap<>();
+		for (String arg : args) {
+			int separator = arg.indexOf('=');
+			if (separator > 0) {
+				options.put(arg.substring(0, separator), arg.substring(separator + 1));
+			}
+		}
+
+		return options;
+	}
+
+	private record ModeResult(
+		Map<String, LatencyRecorder> recorders,
+		long pinnedEvents
+	) {
+	}
+}
@@ -2,8 +2,12 @@ package seunghun.springvalidation;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import seunghun.springvalidation.aot.ValidationRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(ValidationRuntimeHints.class)
 public class SpringValidationApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,62 @@
+package seunghun.springvalidation.aot;
+
+import java.util.List;
+import java.util.ServiceLoader;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.util.ClassUtils;
+
+import seunghun.springvalidation.generated.GeneratedValidator;
+
+/**
+ * native image에서 검증에 필요한 리플렉션/리소스 힌트.
+ * <ul>
+ *     <li>DTO 패키지의 타입: Hibernate Validator가 필드 어노테이션을 읽고, Jackson과 병렬 cascade가 record 접근자를 호출한다.</li>
+ *     <li>ValidationMessages 번들과 생성된 검증기의 ServiceLoader 등록 파일</li>
+ * </ul>
+ * AOT 처리 시점(JVM)에 클래스패스를 스캔하므로 DTO를 추가해도 힌트를 따로 관리하지 않아도 된다.
+ */
+public class ValidationRuntimeHints implements RuntimeHintsRegistrar {
+	static final List<String> DTO_PACKAGES = List.of(
+		"seunghun.springvalidation.handle.dto",
+		"seunghun.springvalidation.validation.valid"
+	);
+
+	private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+	@Override
+	public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+		for (Class<?> type : scanDtoTypes(classLoader)) {
+			bindingRegistrar.registerReflectionHints(hints.reflection(), type);
+			hints.reflection().registerType(type,
+				MemberCategory.DECLARED_FIELDS,
+				MemberCategory.INVOKE_DECLARED_METHODS,
+				MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+		}
+
+		hints.resources().registerResourceBundle("org.hibernate.validator.ValidationMessages");
+		hints.resources().registerResourceBundle("ContributorValidationMessages");
+		hints.resources().registerResourceBundle("ValidationMessages");
+
+		hints.resources().registerPattern("META-INF/services/" + GeneratedValidator.class.getName());
+		ServiceLoader.load(GeneratedValidator.class, classLoader)
+			.stream()
+			.forEach(provider -> hints.reflection().registerType(provider.type(), MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS));
+	}
+
+	private static List<Class<?>> scanDtoTypes(ClassLoader classLoader) {
+		ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+		scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+
+		return DTO_PACKAGES.stream()
+			.flatMap(basePackage -> scanner.findCandidateComponents(basePackage).stream())
+			.map(BeanDefinition::getBeanClassName)
+			.<Class<?>>map(className -> ClassUtils.resolveClassName(className, classLoader))
+			.toList();
+	}
+}
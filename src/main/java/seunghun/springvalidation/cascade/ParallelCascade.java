@@ -0,0 +1,21 @@
+package seunghun.springvalidation.cascade;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@code @Valid} List 필드의 요소 수가 threshold 이상이면 요소 검증을 ForkJoinPool에 나누어 실행한다.
+ * 에러 순서는 순차 검증과 같이 인덱스 순서를 유지한다.
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ParallelCascade {
+	/**
+	 * 0 이하이면 validation.parallel-cascade.threshold 설정을 사용한다
+	 */
+	int threshold() default 0;
+}
@@ -0,0 +1,14 @@
+package seunghun.springvalidation.cascade;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param parallelism 0 이하이면 ForkJoinPool.commonPool()을 사용한다
+ */
+@ConfigurationProperties("validation.parallel-cascade")
+public record ParallelCascadeProperties(
+	@DefaultValue("1000") int threshold,
+	@DefaultValue("0") int parallelism
+) {
+}
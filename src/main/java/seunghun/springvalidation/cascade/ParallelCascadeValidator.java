@@ -0,0 +1,205 @@
+package seunghun.springvalidation.cascade;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+import jakarta.validation.Validator;
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
+
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.validation.Errors;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * record의 {@link ParallelCascade} List 필드를 병렬로 검증한다.
+ * 루트 객체의 제약조건은 Hibernate Validator의 validateProperty로, cascade 대상은 요소 단위 validate로 나누어 검증한 뒤
+ * 요청 스레드에서 인덱스 순서대로 Errors에 반영한다.
+ * 워커 스레드에는 요청 스레드의 Locale과 request attribute를 넘겨, 병렬 여부와 관계없이 같은 메시지를 만든다.
+ */
+public class ParallelCascadeValidator {
+	private final Validator validator;
+	private final ForkJoinPool pool;
+	private final int defaultThreshold;
+	private final Map<Class<?>, Plan> plans = new ConcurrentHashMap<>();
+
+	public ParallelCascadeValidator(Validator validator, ForkJoinPool pool, int defaultThreshold) {
+		this.validator = validator;
+		this.pool = pool;
+		this.defaultThreshold = defaultThreshold;
+	}
+
+	public boolean supports(Object target) {
+		Plan plan = plans.computeIfAbsent(target.getClass(), this::createPlan);
+		if (plan == Plan.UNSUPPORTED) {
+			return false;
+		}
+
+		for (Map.Entry<String, Integer> entry : plan.thresholds().entrySet()) {
+			if (read(target, plan.accessors().get(entry.getKey())) instanceof List<?> list && list.size() >= entry.getValue()) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	public void validate(Object target, Errors errors, BiConsumer<Set<ConstraintViolation<Object>>, Errors> processor) {
+		Plan plan = plans.computeIfAbsent(target.getClass(), this::createPlan);
+
+		for (PropertyDescriptor property : plan.descriptor().getConstrainedProperties()) {
+			String name = property.getPropertyName();
+			if (!property.getConstraintDescriptors().isEmpty()) {
+				processor.accept(rootPropertyViolations(validator.validateProperty(target, name)), errors);
+			}
+
+			if (!property.isCascaded()) {
+				continue;
+			}
+
+			Object value = read(target, plan.accessors().get(name));
+			if (value instanceof List<?> list) {
+				Integer threshold = plan.thresholds().get(name);
+				List<Set<ConstraintViolation<Object>>> results = threshold != null && list.size() >= threshold
+					? validateParallel(list)
+					: list.stream().map(this::validateElement).toList();
+
+				for (int i = 0; i < results.size(); i++) {
+					errors.pushNestedPath(name + "[" + i + "]");
+					processor.accept(results.get(i), errors);
+					errors.popNestedPath();
+				}
+			} else if (value != null) {
+				errors.pushNestedPath(name);
+				processor.accept(validator.validate(value), errors);
+				errors.popNestedPath();
+			}
+		}
+	}
+
+	// Hibernate Validator 8.0의 validateProperty는 cascade 대상에서 이름이 같은 속성까지 검증하므로
+	// 루트 속성의 위반만 남긴다. 요소 위반은 아래에서 인덱스 순서대로 따로 반영한다
+	private static Set<ConstraintViolation<Object>> rootPropertyViolations(Set<ConstraintViolation<Object>> violations) {
+		if (violations.stream().allMatch(ParallelCascadeValidator::isRootProperty)) {
+			return violations;
+		}
+
+		return violations.stream()
+			.filter(ParallelCascadeValidator::isRootProperty)
+			.collect(Collectors.toSet());
+	}
+
+	private static boolean isRootProperty(ConstraintViolation<Object> violation) {
+		Iterator<Path.Node> nodes = violation.getPropertyPath().iterator();
+		if (nodes.hasNext()) {
+			nodes.next();
+		}
+
+		return !nodes.hasNext();
+	}
+
+	private List<Set<ConstraintViolation<Object>>> validateParallel(List<?> list) {
+		LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+		return pool.submit(() -> IntStream.range(0, list.size())
+				.parallel()
+				.mapToObj(i -> validateElement(list.get(i), localeContext, requestAttributes))
+				.toList())
+			.join();
+	}
+
+	// 호출한 스레드가 작업을 돕는 경우도 있으므로 끝나면 원래 값으로 되돌린다
+	private Set<ConstraintViolation<Object>> validateElement(Object element, LocaleContext localeContext, RequestAttributes requestAttributes) {
+		LocaleContext previousLocaleContext = LocaleContextHolder.getLocaleContext();
+		RequestAttributes previousRequestAttributes = RequestContextHolder.getRequestAttributes();
+		LocaleContextHolder.setLocaleContext(localeContext);
+		RequestContextHolder.setRequestAttributes(requestAttributes);
+		try {
+			return validateElement(element);
+		} finally {
+			LocaleContextHolder.setLocaleContext(previousLocaleContext);
+			RequestContextHolder.setRequestAttributes(previousRequestAttributes);
+		}
+	}
+
+	private Set<ConstraintViolation<Object>> validateElement(Object element) {
+		if (element == null) {
+			return Set.of();
+		}
+
+		return validator.validate(element);
+	}
+
+	private Plan createPlan(Class<?> type) {
+		if (!type.isRecord()) {
+			return Plan.UNSUPPORTED;
+		}
+
+		BeanDescriptor descriptor = validator.getConstraintsForClass(type);
+		// 클래스 레벨 제약조건은 객체 전체를 봐야 하므로 병렬 검증 대상에서 제외한다
+		if (descriptor.hasConstraints()) {
+			return Plan.UNSUPPORTED;
+		}
+
+		Map<String, Method> accessors = new HashMap<>();
+		for (RecordComponent component : type.getRecordComponents()) {
+			ReflectionUtils.makeAccessible(component.getAccessor());
+			accessors.put(component.getName(), component.getAccessor());
+		}
+
+		Map<String, Integer> thresholds = new HashMap<>();
+		for (PropertyDescriptor property : descriptor.getConstrainedProperties()) {
+			if (!property.isCascaded()) {
+				continue;
+			}
+
+			Class<?> propertyType = property.getElementClass();
+			if ((!List.class.isAssignableFrom(propertyType) && Iterable.class.isAssignableFrom(propertyType))
+				|| Map.class.isAssignableFrom(propertyType)
+				|| propertyType.isArray()) {
+				return Plan.UNSUPPORTED;
+			}
+
+			Field field = ReflectionUtils.findField(type, property.getPropertyName());
+			ParallelCascade parallelCascade = field != null ? field.getAnnotation(ParallelCascade.class) : null;
+			if (parallelCascade != null) {
+				thresholds.put(property.getPropertyName(), parallelCascade.threshold() > 0 ? parallelCascade.threshold() : defaultThreshold);
+			}
+		}
+
+		if (thresholds.isEmpty()) {
+			return Plan.UNSUPPORTED;
+		}
+
+		return new Plan(descriptor, Map.copyOf(accessors), Map.copyOf(thresholds));
+	}
+
+	private Object read(Object target, Method accessor) {
+		return ReflectionUtils.invokeMethod(accessor, target);
+	}
+
+	private record Plan(
+		BeanDescriptor descriptor,
+		Map<String, Method> accessors,
+		Map<String, Integer> thresholds
+	) {
+		static final Plan UNSUPPORTED = new Plan(null, Map.of(), Map.of());
+	}
+}
@@ -0,0 +1,17 @@
+package seunghun.springvalidation.failfast;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 핸들러 메서드, 컨트롤러 또는 DTO에 붙이면 첫 번째 위반만 보고하고, 위반이 하나 더 확인되면 검증을 멈춘다.
+ * 실제로 보고하지 않은 위반이 있을 때만 ErrorResponse.truncated가 true가 된다.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface FailFast {
+}
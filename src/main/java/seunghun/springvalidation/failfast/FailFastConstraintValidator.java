@@ -0,0 +1,65 @@
+package seunghun.springvalidation.failfast;
+
+import java.lang.annotation.Annotation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.metadata.ConstraintDescriptor;
+
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidator;
+import org.hibernate.validator.constraintvalidation.HibernateConstraintValidatorInitializationContext;
+
+/**
+ * 같은 검증 호출에서 첫 번째 위반만 보고한다.
+ * 그 뒤의 제약조건은 위반을 만들지 않고 평가만 하며, 위반이 하나 더 나오면 잘린 것으로 표시하고 나머지는 평가하지 않는다.
+ * fail-fast 범위 밖에서 호출되면 원래 검증기와 같다.
+ */
+class FailFastConstraintValidator<A extends Annotation, T> implements HibernateConstraintValidator<A, T> {
+	private final ConstraintValidator<A, T> delegate;
+
+	FailFastConstraintValidator(ConstraintValidator<A, T> delegate) {
+		this.delegate = delegate;
+	}
+
+	ConstraintValidator<A, T> getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	public void initialize(ConstraintDescriptor<A> constraintDescriptor, HibernateConstraintValidatorInitializationContext initializationContext) {
+		if (delegate instanceof HibernateConstraintValidator<A, T> hibernateValidator) {
+			hibernateValidator.initialize(constraintDescriptor, initializationContext);
+		}
+	}
+
+	@Override
+	public void initialize(A constraintAnnotation) {
+		delegate.initialize(constraintAnnotation);
+	}
+
+	@Override
+	public boolean isValid(T value, ConstraintValidatorContext context) {
+		FailFastScope scope = FailFastScope.current();
+		if (scope == null) {
+			return delegate.isValid(value, context);
+		}
+
+		if (scope.isTruncated()) {
+			return true;
+		}
+
+		boolean valid = delegate.isValid(value, context);
+		if (valid) {
+			return true;
+		}
+
+		// 두 번째 위반은 메시지와 경로를 만들지 않고 잘렸다는 사실만 남긴다
+		if (scope.isViolated()) {
+			scope.markTruncated();
+			return true;
+		}
+
+		scope.markViolated();
+		return false;
+	}
+}
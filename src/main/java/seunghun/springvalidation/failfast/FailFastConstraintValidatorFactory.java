@@ -0,0 +1,29 @@
+package seunghun.springvalidation.failfast;
+
+import java.lang.annotation.Annotation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorFactory;
+
+/**
+ * fail-fast 검증기가 만드는 모든 제약조건 검증기를 {@link FailFastConstraintValidator}로 감싼다.
+ */
+public class FailFastConstraintValidatorFactory implements ConstraintValidatorFactory {
+	private final ConstraintValidatorFactory delegate;
+
+	public FailFastConstraintValidatorFactory(ConstraintValidatorFactory delegate) {
+		this.delegate = delegate;
+	}
+
+	// Hibernate Validator는 반환값을 ConstraintValidator로만 다루므로 감싼 인스턴스를 돌려줘도 된다
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T extends ConstraintValidator<?, ?>> T getInstance(Class<T> key) {
+		return (T)new FailFastConstraintValidator<>((ConstraintValidator<Annotation, Object>)delegate.getInstance(key));
+	}
+
+	@Override
+	public void releaseInstance(ConstraintValidator<?, ?> instance) {
+		delegate.releaseInstance(instance instanceof FailFastConstraintValidator<?, ?> validator ? validator.getDelegate() : instance);
+	}
+}
@@ -0,0 +1,49 @@
+package seunghun.springvalidation.failfast;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Set;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.executable.ExecutableValidator;
+
+/**
+ * {@link FailFast}가 붙은 메서드의 파라미터/반환값 검증만 fail-fast 검증기로 보낸다.
+ */
+public class FailFastExecutableValidator implements ExecutableValidator {
+	private final ExecutableValidator defaultValidator;
+	private final ExecutableValidator failFastValidator;
+
+	public FailFastExecutableValidator(ExecutableValidator defaultValidator, ExecutableValidator failFastValidator) {
+		this.defaultValidator = defaultValidator;
+		this.failFastValidator = failFastValidator;
+	}
+
+	@Override
+	public <T> Set<ConstraintViolation<T>> validateParameters(T object, Method method, Object[] parameterValues, Class<?>... groups) {
+		if (FailFastSupport.isFailFast(method)) {
+			return FailFastSupport.validate(() -> failFastValidator.validateParameters(object, method, parameterValues, groups));
+		}
+
+		return defaultValidator.validateParameters(object, method, parameterValues, groups);
+	}
+
+	@Override
+	public <T> Set<ConstraintViolation<T>> validateReturnValue(T object, Method method, Object returnValue, Class<?>... groups) {
+		if (FailFastSupport.isFailFast(method)) {
+			return FailFastSupport.validate(() -> failFastValidator.validateReturnValue(object, method, returnValue, groups));
+		}
+
+		return defaultValidator.validateReturnValue(object, method, returnValue, groups);
+	}
+
+	@Override
+	public <T> Set<ConstraintViolation<T>> validateConstructorParameters(Constructor<? extends T> constructor, Object[] parameterValues, Class<?>... groups) {
+		return defaultValidator.validateConstructorParameters(constructor, parameterValues, groups);
+	}
+
+	@Override
+	public <T> Set<ConstraintViolation<T>> validateConstructorReturnValue(Constructor<? extends T> constructor, T createdObject, Class<?>... groups) {
+		return defaultValidator.validateConstructorReturnValue(constructor, createdObject, groups);
+	}
+}
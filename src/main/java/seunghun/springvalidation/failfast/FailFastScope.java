@@ -0,0 +1,50 @@
+package seunghun.springvalidation.failfast;
+
+/**
+ * fail-fast 검증 호출 한 번의 상태. 첫 번째 위반과, 보고하지 않은 위반이 더 있었는지를 기록한다.
+ */
+final class FailFastScope {
+	private static final ThreadLocal<FailFastScope> CURRENT = new ThreadLocal<>();
+
+	private final FailFastScope previous;
+	private boolean violated;
+	private boolean truncated;
+
+	private FailFastScope(FailFastScope previous) {
+		this.previous = previous;
+	}
+
+	static FailFastScope open() {
+		FailFastScope scope = new FailFastScope(CURRENT.get());
+		CURRENT.set(scope);
+		return scope;
+	}
+
+	static FailFastScope current() {
+		return CURRENT.get();
+	}
+
+	void close() {
+		if (previous != null) {
+			CURRENT.set(previous);
+		} else {
+			CURRENT.remove();
+		}
+	}
+
+	boolean isViolated() {
+		return violated;
+	}
+
+	void markViolated() {
+		violated = true;
+	}
+
+	boolean isTruncated() {
+		return truncated;
+	}
+
+	void markTruncated() {
+		truncated = true;
+	}
+}
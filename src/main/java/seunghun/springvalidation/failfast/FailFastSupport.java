@@ -0,0 +1,71 @@
+package seunghun.springvalidation.failfast;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolation;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+public final class FailFastSupport {
+	static final String TRUNCATED_ATTRIBUTE = FailFastSupport.class.getName() + ".TRUNCATED";
+
+	private FailFastSupport() {
+	}
+
+	/**
+	 * fail-fast 검증기로 한 번 검증한다. 보고하지 않은 위반이 있었으면 현재 요청을 잘린 것으로 표시한다.
+	 */
+	public static <T> Set<ConstraintViolation<T>> validate(Supplier<Set<ConstraintViolation<T>>> validation) {
+		FailFastScope scope = FailFastScope.open();
+		try {
+			return validation.get();
+		} finally {
+			scope.close();
+			if (scope.isTruncated()) {
+				markTruncated();
+			}
+		}
+	}
+
+	// 검증이 실제로 위반을 버리고 멈췄을 때만 true. @FailFast가 붙어 있어도 위반이 하나뿐이면 false다
+	public static boolean isTruncated(HttpServletRequest request) {
+		return request.getAttribute(TRUNCATED_ATTRIBUTE) != null;
+	}
+
+	private static void markTruncated() {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (attributes != null) {
+			attributes.setAttribute(TRUNCATED_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+		}
+	}
+
+	public static boolean isFailFast(Class<?> type) {
+		return AnnotatedElementUtils.hasAnnotation(type, FailFast.class);
+	}
+
+	public static boolean isFailFast(Method method) {
+		return AnnotatedElementUtils.hasAnnotation(method, FailFast.class) || isFailFast(method.getDeclaringClass());
+	}
+
+	// DTO 자체에 표시가 없어도 현재 요청을 처리하는 핸들러가 fail-fast이면 적용한다
+	public static boolean isFailFast(Object target) {
+		return isFailFast(target.getClass()) || isCurrentHandlerFailFast();
+	}
+
+	public static boolean isCurrentHandlerFailFast() {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (attributes == null) {
+			return false;
+		}
+
+		return attributes.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof HandlerMethod handlerMethod
+			&& isFailFast(handlerMethod.getMethod());
+	}
+}
@@ -0,0 +1,89 @@
+package seunghun.springvalidation.generated;
+
+import java.util.concurrent.ForkJoinPool;
+
+import jakarta.validation.ValidatorFactory;
+
+import org.hibernate.validator.HibernateValidatorFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.Validator;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import seunghun.springvalidation.cascade.ParallelCascadeProperties;
+import seunghun.springvalidation.cascade.ParallelCascadeValidator;
+import seunghun.springvalidation.failfast.FailFastConstraintValidatorFactory;
+import seunghun.springvalidation.plan.ConstraintPlanAnalyzer;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(ParallelCascadeProperties.class)
+public class GeneratedValidationConfig implements WebMvcConfigurer {
+	private final jakarta.validation.Validator validator;
+	private final ValidatorFactory validatorFactory;
+	private final boolean generatedEnabled;
+	private final ParallelCascadeProperties parallelCascadeProperties;
+	private final ForkJoinPool parallelCascadePool;
+	private final ObjectProvider<ConstraintPlanAnalyzer> constraintPlanAnalyzer;
+	private GeneratedValidatorAdapter validatorAdapter;
+
+	public GeneratedValidationConfig(
+		jakarta.validation.Validator validator,
+		ValidatorFactory validatorFactory,
+		@Value("${validation.generated.enabled:true}") boolean generatedEnabled,
+		ParallelCascadeProperties parallelCascadeProperties,
+		ForkJoinPool parallelCascadePool,
+		ObjectProvider<ConstraintPlanAnalyzer> constraintPlanAnalyzer
+	) {
+		this.validator = validator;
+		this.validatorFactory = validatorFactory;
+		this.generatedEnabled = generatedEnabled;
+		this.parallelCascadeProperties = parallelCascadeProperties;
+		this.parallelCascadePool = parallelCascadePool;
+		this.constraintPlanAnalyzer = constraintPlanAnalyzer;
+	}
+
+	// 컨텍스트가 닫힐 때 전용 풀도 종료한다. commonPool은 shutdown이 무시된다
+	@Bean(destroyMethod = "shutdown")
+	static ForkJoinPool parallelCascadePool(ParallelCascadeProperties parallelCascadeProperties) {
+		return parallelCascadeProperties.parallelism() > 0
+			? new ForkJoinPool(parallelCascadeProperties.parallelism())
+			: ForkJoinPool.commonPool();
+	}
+
+	@Override
+	public Validator getValidator() {
+		return getValidatorAdapter();
+	}
+
+	public synchronized GeneratedValidatorAdapter getValidatorAdapter() {
+		if (validatorAdapter == null) {
+			GeneratedValidators generatedValidators = generatedEnabled
+				? GeneratedValidators.load(getClass().getClassLoader())
+				: GeneratedValidators.empty();
+
+			validatorAdapter = new GeneratedValidatorAdapter(
+				validator,
+				generatedValidators,
+				parallelCascadeValidator(),
+				failFastValidator(),
+				constraintPlanAnalyzer.getIfAvailable()
+			);
+		}
+
+		return validatorAdapter;
+	}
+
+	private ParallelCascadeValidator parallelCascadeValidator() {
+		return new ParallelCascadeValidator(validator, parallelCascadePool, parallelCascadeProperties.threshold());
+	}
+
+	private jakarta.validation.Validator failFastValidator() {
+		return validatorFactory.unwrap(HibernateValidatorFactory.class)
+			.usingContext()
+			.constraintValidatorFactory(new FailFastConstraintValidatorFactory(validatorFactory.getConstraintValidatorFactory()))
+			.getValidator();
+	}
+}
@@ -0,0 +1,25 @@
+package seunghun.springvalidation.generated;
+
+/**
+ * 컴파일 타임에 생성되는 record 검증기
+ */
+public interface GeneratedValidator<T> {
+	Class<T> targetType();
+
+	boolean isValid(T target);
+
+	// Hibernate Validator의 NotBlankValidator(trim 후 길이 검사)와 같은 결과를 할당 없이 계산한다
+	static boolean hasText(CharSequence value) {
+		if (value == null) {
+			return false;
+		}
+
+		for (int i = 0; i < value.length(); i++) {
+			if (value.charAt(i) > ' ') {
+				return true;
+			}
+		}
+
+		return false;
+	}
+}
@@ -0,0 +1,215 @@
+package seunghun.springvalidation.generated;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.executable.ExecutableValidator;
+
+import org.springframework.util.ObjectUtils;
+import org.springframework.validation.Errors;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+import seunghun.springvalidation.cascade.ParallelCascadeValidator;
+import seunghun.springvalidation.failfast.FailFastExecutableValidator;
+import seunghun.springvalidation.failfast.FailFastSupport;
+import seunghun.springvalidation.jfr.ConstraintValidationEvent;
+import seunghun.springvalidation.metrics.MeteredExecutableValidator;
+import seunghun.springvalidation.metrics.ValidationMetricsSupport;
+import seunghun.springvalidation.parsetime.ParseTimeValidatedExecutableValidator;
+import seunghun.springvalidation.parsetime.ParseTimeValidationSupport;
+import seunghun.springvalidation.plan.ConstraintPlan;
+import seunghun.springvalidation.plan.ConstraintPlan.Evaluation;
+import seunghun.springvalidation.plan.ConstraintPlanAnalyzer;
+import seunghun.springvalidation.result.ValidationResultSupport;
+
+/**
+ * 생성된 검증기로 먼저 검사하고, 위반이 있을 때만 Hibernate Validator로 위임해 동일한 에러를 만든다.
+ * 큰 {@code @ParallelCascade} 컬렉션이 있으면 위임 시 요소 검증을 병렬로 실행한다.
+ * {@code @FailFast} 대상은 첫 번째 위반에서 멈추는 검증기로 위임한다.
+ * 검증 그룹 힌트가 있으면 (DTO, 그룹) 계획에 따라 검증을 건너뛰거나, Default와 같은 제약조건이면 기본 경로로 검증한다.
+ * 그 밖의 그룹 검증에는 생성된 검증기와 병렬 검증을 사용하지 않는다.
+ * 검증 시간과 위반은 요청 단위 지표로 모으고, JFR 이벤트로도 남긴다.
+ * 역직렬화 중 이미 검증된 인스턴스는 다시 검사하지 않는다.
+ */
+public class GeneratedValidatorAdapter extends SpringValidatorAdapter {
+	private final GeneratedValidators generatedValidators;
+	private final ParallelCascadeValidator parallelCascadeValidator;
+	private final jakarta.validation.Validator failFastValidator;
+	private final ExecutableValidator executableValidator;
+	private final ConstraintPlanAnalyzer constraintPlanAnalyzer;
+	private final Map<Class<?>, GroupPlan[]> groupPlans = new ConcurrentHashMap<>();
+
+	/**
+	 * @param constraintPlanAnalyzer null이면 그룹 힌트가 있을 때 항상 Hibernate Validator로 검증한다
+	 */
+	public GeneratedValidatorAdapter(
+		jakarta.validation.Validator targetValidator,
+		GeneratedValidators generatedValidators,
+		ParallelCascadeValidator parallelCascadeValidator,
+		jakarta.validation.Validator failFastValidator,
+		ConstraintPlanAnalyzer constraintPlanAnalyzer
+	) {
+		super(targetValidator);
+		this.generatedValidators = generatedValidators;
+		this.parallelCascadeValidator = parallelCascadeValidator;
+		this.failFastValidator = failFastValidator;
+		this.constraintPlanAnalyzer = constraintPlanAnalyzer;
+		this.executableValidator = new MeteredExecutableValidator(
+			new ParseTimeValidatedExecutableValidator(
+				new FailFastExecutableValidator(targetValidator.forExecutables(), failFastValidator.forExecutables())
+			)
+		);
+	}
+
+	@Override
+	public void validate(Object target, Errors errors) {
+		if (ValidationResultSupport.isDeferred()) {
+			return;
+		}
+
+		ConstraintValidationEvent event = new ConstraintValidationEvent();
+		int errorCount = errors.getErrorCount();
+		event.begin();
+		long start = System.nanoTime();
+		try {
+			doValidate(target, errors);
+		} finally {
+			ValidationMetricsSupport.recordTime(start);
+			event.finish(target != null ? target.getClass() : null, "bean", errors.getErrorCount() - errorCount);
+		}
+	}
+
+	private void doValidate(Object target, Errors errors) {
+		if (target != null && ParseTimeValidationSupport.isValidated(target)) {
+			return;
+		}
+
+		if (target != null && generatedValidators.isValid(target)) {
+			return;
+		}
+
+		if (target != null && FailFastSupport.isFailFast(target)) {
+			processConstraintViolations(FailFastSupport.validate(() -> failFastValidator.validate(target)), errors);
+			return;
+		}
+
+		if (target != null && parallelCascadeValidator.supports(target)) {
+			parallelCascadeValidator.validate(target, errors, this::processConstraintViolations);
+			return;
+		}
+
+		super.validate(target, errors);
+	}
+
+	@Override
+	public void validate(Object target, Errors errors, Object... validationHints) {
+		if (ValidationResultSupport.isDeferred()) {
+			return;
+		}
+
+		if (ObjectUtils.isEmpty(validationHints)) {
+			validate(target, errors);
+			return;
+		}
+
+		ConstraintPlan plan = groupPlan(target, validationHints);
+		if (plan != null && plan.evaluation() == Evaluation.SKIP) {
+			return;
+		}
+
+		if (plan != null && plan.evaluation() == Evaluation.DEFAULT) {
+			validate(target, errors);
+			return;
+		}
+
+		ConstraintValidationEvent event = new ConstraintValidationEvent();
+		int errorCount = errors.getErrorCount();
+		event.begin();
+		long start = System.nanoTime();
+		try {
+			super.validate(target, errors, validationHints);
+		} finally {
+			ValidationMetricsSupport.recordTime(start);
+			event.finish(target != null ? target.getClass() : null, "bean", errors.getErrorCount() - errorCount);
+		}
+	}
+
+	// 힌트가 모두 그룹 클래스일 때만 (DTO, 그룹) 계획을 사용한다.
+	// @Validated 힌트 배열은 호출마다 새로 만들어지므로 DTO 타입으로 찾은 뒤 그룹을 원소 단위로 비교해, 찾을 때 키 객체를 만들지 않는다
+	private ConstraintPlan groupPlan(Object target, Object[] validationHints) {
+		if (constraintPlanAnalyzer == null || target == null) {
+			return null;
+		}
+
+		for (Object hint : validationHints) {
+			if (!(hint instanceof Class<?>)) {
+				return null;
+			}
+		}
+
+		Class<?> type = target.getClass();
+		ConstraintPlan plan = findGroupPlan(groupPlans.get(type), validationHints);
+		if (plan != null) {
+			return plan;
+		}
+
+		Class<?>[] groups = Arrays.copyOf(validationHints, validationHints.length, Class[].class);
+		GroupPlan[] added = {new GroupPlan(groups, constraintPlanAnalyzer.analyze(type, groups))};
+		return findGroupPlan(groupPlans.merge(type, added, GeneratedValidatorAdapter::addGroupPlan), validationHints);
+	}
+
+	// 같은 그룹 조합이 동시에 추가되면 먼저 추가된 계획을 사용한다
+	private static GroupPlan[] addGroupPlan(GroupPlan[] existing, GroupPlan[] added) {
+		if (findGroupPlan(existing, added[0].groups()) != null) {
+			return existing;
+		}
+
+		GroupPlan[] plans = Arrays.copyOf(existing, existing.length + 1);
+		plans[existing.length] = added[0];
+		return plans;
+	}
+
+	private static ConstraintPlan findGroupPlan(GroupPlan[] plans, Object[] groups) {
+		if (plans == null) {
+			return null;
+		}
+
+		for (GroupPlan plan : plans) {
+			if (Arrays.equals(plan.groups(), groups)) {
+				return plan.plan();
+			}
+		}
+
+		return null;
+	}
+
+	@Override
+	protected void processConstraintViolations(Set<ConstraintViolation<Object>> violations, Errors errors) {
+		ValidationMetricsSupport.recordViolations(violations);
+		super.processConstraintViolations(violations, errors);
+	}
+
+	@Override
+	public ExecutableValidator forExecutables() {
+		return executableValidator;
+	}
+
+	// Spring이 jakarta.validation.Validator로 unwrap할 때 Hibernate Validator가 아닌 이 어댑터를 사용하도록 한다
+	@Override
+	public <T> T unwrap(Class<T> type) {
+		if (type != null && type.isInstance(this)) {
+			return type.cast(this);
+		}
+
+		return super.unwrap(type);
+	}
+
+	private record GroupPlan(
+		Class<?>[] groups,
+		ConstraintPlan plan
+	) {
+	}
+}
@@ -0,0 +1,37 @@
+package seunghun.springvalidation.generated;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+public class GeneratedValidators {
+	private final Map<Class<?>, GeneratedValidator<?>> validators;
+
+	private GeneratedValidators(Map<Class<?>, GeneratedValidator<?>> validators) {
+		this.validators = validators;
+	}
+
+	@SuppressWarnings("rawtypes")
+	public static GeneratedValidators load(ClassLoader classLoader) {
+		Map<Class<?>, GeneratedValidator<?>> validators = new HashMap<>();
+		for (GeneratedValidator validator : ServiceLoader.load(GeneratedValidator.class, classLoader)) {
+			validators.put(validator.targetType(), validator);
+		}
+
+		return new GeneratedValidators(Map.copyOf(validators));
+	}
+
+	public static GeneratedValidators empty() {
+		return new GeneratedValidators(Map.of());
+	}
+
+	public boolean supports(Class<?> type) {
+		return validators.containsKey(type);
+	}
+
+	@SuppressWarnings("unchecked")
+	public boolean isValid(Object target) {
+		GeneratedValidator<Object> validator = (GeneratedValidator<Object>)validators.get(target.getClass());
+		return validator != null && validator.isValid(target);
+	}
+}
@@ -0,0 +1,55 @@
+package seunghun.springvalidation.handle;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 내부 서비스 호출용 압축 에러 응답. 메시지, 시간, 경로 대신 필드 경로 테이블과 에러 코드만 담는다.
+ * <pre>{"f":["name","users[0].age"],"e":[[0,"NotBlank"],[1,"Min"]],"t":false}</pre>
+ *
+ * @param fields 중복 없는 필드 경로 테이블
+ * @param errors [fields 인덱스, 에러 코드] 쌍
+ * @param truncated ErrorResponse.truncated와 같다
+ */
+public record CompactErrorResponse(
+	@JsonProperty("f") List<String> fields,
+	@JsonProperty("e") List<Entry> errors,
+	@JsonProperty("t") boolean truncated
+) {
+	public static final String MEDIA_TYPE_VALUE = "application/vnd.validation.compact+json";
+	public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+	private static final String UNKNOWN_CODE = "Invalid";
+
+	public static CompactErrorResponse from(ErrorResponse errorResponse) {
+		List<String> fields = new ArrayList<>();
+		Map<String, Integer> fieldIndexes = new HashMap<>();
+		List<Entry> errors = new ArrayList<>(errorResponse.errors().size());
+
+		for (ErrorDetail errorDetail : errorResponse.errors()) {
+			String field = errorDetail.field() == null ? "" : errorDetail.field();
+			int index = fieldIndexes.computeIfAbsent(field, key -> {
+				fields.add(key);
+				return fields.size() - 1;
+			});
+
+			errors.add(new Entry(index, errorDetail.code() == null ? UNKNOWN_CODE : errorDetail.code()));
+		}
+
+		return new CompactErrorResponse(fields, errors, errorResponse.truncated());
+	}
+
+	@JsonFormat(shape = JsonFormat.Shape.ARRAY)
+	public record Entry(
+		int field,
+		String code
+	) {
+	}
+}
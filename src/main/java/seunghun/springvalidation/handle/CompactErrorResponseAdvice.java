@@ -0,0 +1,37 @@
+package seunghun.springvalidation.handle;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 콘텐츠 협상으로 {@link CompactErrorResponse#MEDIA_TYPE}이 선택되면 ErrorResponse를 압축 형식으로 바꾼다.
+ * Jackson 컨버터가 {@code application/*+json}을 지원하므로 별도 컨버터 없이 선택된다.
+ */
+@RestControllerAdvice("seunghun.springvalidation.handle")
+public class CompactErrorResponseAdvice implements ResponseBodyAdvice<Object> {
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return true;
+	}
+
+	@Override
+	public Object beforeBodyWrite(
+		Object body,
+		MethodParameter returnType,
+		MediaType selectedContentType,
+		Class<? extends HttpMessageConverter<?>> selectedConverterType,
+		ServerHttpRequest request,
+		ServerHttpResponse response
+	) {
+		if (body instanceof ErrorResponse errorResponse && CompactErrorResponse.MEDIA_TYPE.equalsTypeAndSubtype(selectedContentType)) {
+			return CompactErrorResponse.from(errorResponse);
+		}
+
+		return body;
+	}
+}
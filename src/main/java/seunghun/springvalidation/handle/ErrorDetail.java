@@ -1,8 +1,18 @@
 package seunghun.springvalidation.handle;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * @param rejectedValue 만드는 쪽에서 {@link RejectedValuePolicy}를 적용한 값. {@link ValidationErrorMapper}를 거치면 적용된다
+ * @param code {@code NotBlank}처럼 안정적인 짧은 에러 코드. 기본 응답에는 포함하지 않고 {@link CompactErrorResponse}에서만 사용한다
+ */
 public record ErrorDetail(
 	String field,
 	Object rejectedValue,
-	String message
+	String message,
+	@JsonIgnore String code
 ) {
+	public ErrorDetail(String field, Object rejectedValue, String message) {
+		this(field, rejectedValue, message, null);
+	}
 }
@@ -3,17 +3,25 @@ package seunghun.springvalidation.handle;
 import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * @param truncated 검증이 중간에 멈춰 errors가 모든 위반을 담고 있지 않을 수 있으면 true
+ */
 public record ErrorResponse(
 	String message,
 	LocalDateTime timestamp,
 	String path,
-	List<ErrorDetail> errors
+	List<ErrorDetail> errors,
+	boolean truncated
 ) {
 	public static ErrorResponse of(String message, String path, List<ErrorDetail> errors) {
-		return new ErrorResponse(message, LocalDateTime.now(), path, errors);
+		return of(message, path, errors, false);
+	}
+
+	public static ErrorResponse of(String message, String path, List<ErrorDetail> errors, boolean truncated) {
+		return new ErrorResponse(message, LocalDateTime.now(), path, errors, truncated);
 	}
 
 	public static ErrorResponse of(String message, String path, ErrorDetail... errors) {
-		return new ErrorResponse(message, LocalDateTime.now(), path, List.of(errors));
+		return of(message, path, List.of(errors));
 	}
 }
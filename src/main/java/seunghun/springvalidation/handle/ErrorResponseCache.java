@@ -0,0 +1,216 @@
+package seunghun.springvalidation.handle;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 같은 위반 시그니처(라우트 패턴, 메시지, 필드/코드/메시지 목록)의 ErrorResponse 본문을 한 번만 직렬화한다.
+ * 직렬화된 바이트를 timestamp, path, rejectedValue 위치에서 나눠 두고, 응답할 때 요청마다 다른 값만 끼워 넣는다.
+ * 요청 URI나 클라이언트가 보낸 값은 키에 넣지 않으므로 항목 수는 라우트와 제약조건 조합으로 제한된다.
+ */
+public class ErrorResponseCache {
+	private static final byte[] TIMESTAMP_MARKER = "\"timestamp\":null".getBytes(StandardCharsets.UTF_8);
+	private static final byte[] TIMESTAMP_FIELD = "\"timestamp\":".getBytes(StandardCharsets.UTF_8);
+	private static final String PLACEHOLDER = "\u0000ErrorResponseCache:";
+	private static final int TIMESTAMP = -2;
+	private static final int PATH = -1;
+	private static final Template UNCACHEABLE = new Template(null, null);
+
+	private final ObjectMapper objectMapper;
+	private final Map<Signature, Template> templates;
+	private final LongAdder hits = new LongAdder();
+
+	/**
+	 * @param maxEntries 0 이하이면 캐싱하지 않는다. 넘치면 가장 오래 사용하지 않은 항목부터 버린다
+	 */
+	public ErrorResponseCache(ObjectMapper objectMapper, int maxEntries) {
+		this.objectMapper = objectMapper;
+		this.templates = maxEntries <= 0 ? null : Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Signature, Template> eldest) {
+				return size() > maxEntries;
+			}
+		});
+	}
+
+	/**
+	 * @param routePattern 응답할 핸들러의 라우트 패턴(예: {@code /users/{id}}). 없으면 null
+	 */
+	public void write(ErrorResponse errorResponse, String routePattern, OutputStream outputStream) throws IOException {
+		Template template = template(errorResponse, routePattern);
+		if (template == UNCACHEABLE) {
+			outputStream.write(objectMapper.writeValueAsBytes(errorResponse));
+			return;
+		}
+
+		byte[][] fragments = template.fragments();
+		int[] values = template.values();
+		for (int i = 0; i < values.length; i++) {
+			outputStream.write(fragments[i]);
+			writeValue(errorResponse, values[i], outputStream);
+		}
+		outputStream.write(fragments[values.length]);
+	}
+
+	int size() {
+		return templates == null ? 0 : templates.size();
+	}
+
+	long hits() {
+		return hits.sum();
+	}
+
+	private Template template(ErrorResponse errorResponse, String routePattern) throws IOException {
+		if (templates == null || !isCacheable(errorResponse.errors())) {
+			return UNCACHEABLE;
+		}
+
+		Signature signature = Signature.of(routePattern, errorResponse);
+		Template template = templates.get(signature);
+		if (template != null) {
+			hits.increment();
+			return template;
+		}
+
+		template = createTemplate(errorResponse);
+		templates.put(signature, template);
+		return template;
+	}
+
+	private void writeValue(ErrorResponse errorResponse, int value, OutputStream outputStream) throws IOException {
+		if (value == TIMESTAMP) {
+			outputStream.write(TIMESTAMP_FIELD);
+			outputStream.write(objectMapper.writeValueAsBytes(errorResponse.timestamp()));
+		} else if (value == PATH) {
+			outputStream.write(objectMapper.writeValueAsBytes(errorResponse.path()));
+		} else {
+			outputStream.write(objectMapper.writeValueAsBytes(errorResponse.errors().get(value).rejectedValue()));
+		}
+	}
+
+	// 요청마다 다른 값 자리에 표식을 넣어 직렬화한 뒤 그 위치에서 나눈다
+	private Template createTemplate(ErrorResponse errorResponse) throws IOException {
+		List<ErrorDetail> errors = errorResponse.errors();
+		List<ErrorDetail> placeholders = new ArrayList<>(errors.size());
+		for (int i = 0; i < errors.size(); i++) {
+			ErrorDetail error = errors.get(i);
+			placeholders.add(error.rejectedValue() == null ? error : new ErrorDetail(error.field(), PLACEHOLDER + i, error.message(), error.code()));
+		}
+		String path = errorResponse.path() == null ? null : PLACEHOLDER + "path";
+		byte[] bytes = objectMapper.writeValueAsBytes(new ErrorResponse(errorResponse.message(), null, path, placeholders, errorResponse.truncated()));
+
+		// null 필드를 생략하도록 설정된 ObjectMapper에서는 timestamp 위치를 찾을 수 없다
+		List<Hole> holes = new ArrayList<>();
+		if (!addHole(holes, bytes, TIMESTAMP_MARKER, TIMESTAMP)) {
+			return UNCACHEABLE;
+		}
+		if (path != null && !addHole(holes, bytes, objectMapper.writeValueAsBytes(path), PATH)) {
+			return UNCACHEABLE;
+		}
+		for (int i = 0; i < errors.size(); i++) {
+			if (errors.get(i).rejectedValue() != null && !addHole(holes, bytes, objectMapper.writeValueAsBytes(PLACEHOLDER + i), i)) {
+				return UNCACHEABLE;
+			}
+		}
+
+		holes.sort(Comparator.comparingInt(Hole::position));
+		byte[][] fragments = new byte[holes.size() + 1][];
+		int[] values = new int[holes.size()];
+		int start = 0;
+		for (int i = 0; i < holes.size(); i++) {
+			Hole hole = holes.get(i);
+			fragments[i] = Arrays.copyOfRange(bytes, start, hole.position());
+			values[i] = hole.value();
+			start = hole.position() + hole.length();
+		}
+		fragments[holes.size()] = Arrays.copyOfRange(bytes, start, bytes.length);
+
+		return new Template(fragments, values);
+	}
+
+	private static boolean addHole(List<Hole> holes, byte[] bytes, byte[] marker, int value) {
+		int index = indexOf(bytes, marker);
+		if (index < 0) {
+			return false;
+		}
+
+		holes.add(new Hole(index, marker.length, value));
+		return true;
+	}
+
+	// rejectedValue가 단순 값일 때만 끼워 넣는다. 캡처 정책이 FULL이면 객체가 남을 수 있다
+	private static boolean isCacheable(List<ErrorDetail> errors) {
+		for (ErrorDetail error : errors) {
+			Object value = error.rejectedValue();
+			if (value != null && !(value instanceof String || value instanceof Number || value instanceof Boolean || value instanceof Character)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static int indexOf(byte[] bytes, byte[] target) {
+		outer:
+		for (int i = 0; i <= bytes.length - target.length; i++) {
+			for (int j = 0; j < target.length; j++) {
+				if (bytes[i + j] != target[j]) {
+					continue outer;
+				}
+			}
+
+			return i;
+		}
+
+		return -1;
+	}
+
+	private record Signature(
+		String routePattern,
+		String message,
+		boolean hasPath,
+		List<ErrorKey> errors,
+		boolean truncated
+	) {
+		static Signature of(String routePattern, ErrorResponse errorResponse) {
+			List<ErrorKey> errors = errorResponse.errors()
+				.stream()
+				.map(error -> new ErrorKey(error.field(), error.code(), error.message(), error.rejectedValue() != null))
+				.toList();
+			return new Signature(routePattern, errorResponse.message(), errorResponse.path() != null, errors, errorResponse.truncated());
+		}
+	}
+
+	// null인 rejectedValue는 ObjectMapper 설정에 따라 생략될 수 있으므로 끼워 넣을 자리가 있는지를 키에 넣는다
+	private record ErrorKey(
+		String field,
+		String code,
+		String message,
+		boolean hasRejectedValue
+	) {
+	}
+
+	private record Hole(
+		int position,
+		int length,
+		int value
+	) {
+	}
+
+	private record Template(
+		byte[][] fragments,
+		int[] values
+	) {
+	}
+}
@@ -0,0 +1,31 @@
+package seunghun.springvalidation.handle;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Configuration(proxyBeanMethods = false)
+public class ErrorResponseCacheConfig implements WebMvcConfigurer {
+	private final ErrorResponseCache errorResponseCache;
+
+	public ErrorResponseCacheConfig(ObjectMapper objectMapper, @Value("${validation.error-cache.max-entries:1000}") int maxEntries) {
+		this.errorResponseCache = new ErrorResponseCache(objectMapper, maxEntries);
+	}
+
+	@Bean
+	ErrorResponseCache errorResponseCache() {
+		return errorResponseCache;
+	}
+
+	// Jackson 컨버터보다 먼저 선택되도록 맨 앞에 둔다
+	@Override
+	public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+		converters.addFirst(new ErrorResponseHttpMessageConverter(errorResponseCache));
+	}
+}
@@ -0,0 +1,54 @@
+package seunghun.springvalidation.handle;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * application/json으로 응답하는 ErrorResponse를 요청의 라우트 패턴과 함께 {@link ErrorResponseCache}로 쓴다.
+ * 다른 미디어 타입(압축 형식 등)은 기존 Jackson 컨버터가 처리한다.
+ */
+public class ErrorResponseHttpMessageConverter extends AbstractHttpMessageConverter<ErrorResponse> {
+	private final ErrorResponseCache errorResponseCache;
+
+	public ErrorResponseHttpMessageConverter(ErrorResponseCache errorResponseCache) {
+		super(MediaType.APPLICATION_JSON);
+		this.errorResponseCache = errorResponseCache;
+	}
+
+	@Override
+	protected boolean supports(Class<?> clazz) {
+		return ErrorResponse.class == clazz;
+	}
+
+	@Override
+	protected boolean canRead(MediaType mediaType) {
+		return false;
+	}
+
+	@Override
+	protected ErrorResponse readInternal(Class<? extends ErrorResponse> clazz, HttpInputMessage inputMessage) {
+		throw new HttpMessageNotReadableException("ErrorResponse is write-only", inputMessage);
+	}
+
+	@Override
+	protected void writeInternal(ErrorResponse errorResponse, HttpOutputMessage outputMessage) throws IOException {
+		errorResponseCache.write(errorResponse, getRoutePattern(), outputMessage.getBody());
+	}
+
+	private static String getRoutePattern() {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (attributes == null) {
+			return null;
+		}
+
+		return (String)attributes.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+	}
+}
@@ -4,44 +4,39 @@ import java.util.List;
 
 import jakarta.servlet.http.HttpServletRequest;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.validation.method.ParameterErrors;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
+import com.fasterxml.jackson.core.exc.StreamConstraintsException;
+
+import seunghun.springvalidation.failfast.FailFastSupport;
+import seunghun.springvalidation.handle.stream.StreamValidationException;
+import seunghun.springvalidation.ingress.IngressLimitExceededException;
+import seunghun.springvalidation.parsetime.ParseTimeValidationException;
+
 @RestControllerAdvice("seunghun.springvalidation.handle")
 public class GlobalExceptionHandler {
+	private static final String INGRESS_LIMIT_MESSAGE = "요청 크기 제한을 초과했습니다";
+
+	private final ValidationErrorMapper validationErrorMapper;
+
+	public GlobalExceptionHandler(ObjectProvider<RejectedValuePolicy> rejectedValuePolicy) {
+		this.validationErrorMapper = new ValidationErrorMapper(rejectedValuePolicy.getIfAvailable(() -> RejectedValuePolicy.DEFAULT));
+	}
+
 	@ExceptionHandler(HandlerMethodValidationException.class)
 	public ResponseEntity<ErrorResponse> handleHandlerMethodValidationException(
 		HandlerMethodValidationException exception,
 		HttpServletRequest request
 	) {
-		List<ErrorDetail> errorDetails = exception.getParameterValidationResults()
-			.stream()
-			.flatMap(result -> {
-				if (result instanceof ParameterErrors errors) {
-					return errors.getFieldErrors()
-						.stream()
-						.map(fieldError -> new ErrorDetail(getFieldName(result.getContainerIndex(), fieldError.getField()), fieldError.getRejectedValue(), fieldError.getDefaultMessage()));
-				}
-
-				return result.getResolvableErrors()
-				.stream()
-				.map(resolvable -> new ErrorDetail(result.getMethodParameter().getParameterName(), result.getArgument(), resolvable.getDefaultMessage()));
-			})
-			.toList();
-
-		return ResponseEntity.badRequest().body(ErrorResponse.of("입력값 검증에 실패했습니다", request.getRequestURI(), errorDetails));
-	}
-
-	private String getFieldName(Integer containerIndex, String fieldName) {
-		if (containerIndex != null) {
-			return "[" + containerIndex + "]." + fieldName;
-		}
+		List<ErrorDetail> errorDetails = validationErrorMapper.toErrorDetails(exception);
 
-		return fieldName;
+		return ResponseEntity.badRequest().body(ErrorResponse.of(ValidationErrorMapper.MESSAGE, request.getRequestURI(), errorDetails, FailFastSupport.isTruncated(request)));
 	}
 
 	@ExceptionHandler(MethodArgumentNotValidException.class)
@@ -49,13 +44,44 @@ public class GlobalExceptionHandler {
 		MethodArgumentNotValidException exception,
 		HttpServletRequest request
 	) {
-		List<ErrorDetail> errorDetails = exception.getBindingResult()
-			.getFieldErrors()
-			.stream()
-			.map(fieldError -> new ErrorDetail(fieldError.getField(), fieldError.getRejectedValue(), fieldError.getDefaultMessage()))
-			.toList();
+		List<ErrorDetail> errorDetails = validationErrorMapper.toErrorDetails(exception.getBindingResult());
+
+		return ResponseEntity.badRequest().body(ErrorResponse.of(ValidationErrorMapper.MESSAGE, request.getRequestURI(), errorDetails, FailFastSupport.isTruncated(request)));
+	}
+
+	@ExceptionHandler(StreamValidationException.class)
+	public ResponseEntity<ErrorResponse> handleStreamValidationException(
+		StreamValidationException exception,
+		HttpServletRequest request
+	) {
+		return ResponseEntity.badRequest().body(ErrorResponse.of(ValidationErrorMapper.MESSAGE, request.getRequestURI(), exception.getErrors(), exception.isTruncated()));
+	}
+
+	// 역직렬화 중 발생하므로 HttpMessageNotReadableException의 cause로 전달된다
+	@ExceptionHandler(ParseTimeValidationException.class)
+	public ResponseEntity<ErrorResponse> handleParseTimeValidationException(
+		ParseTimeValidationException exception,
+		HttpServletRequest request
+	) {
+		return ResponseEntity.badRequest().body(ErrorResponse.of(ValidationErrorMapper.MESSAGE, request.getRequestURI(), exception.getErrors(), exception.isTruncated()));
+	}
+
+	@ExceptionHandler(IngressLimitExceededException.class)
+	public ResponseEntity<ErrorResponse> handleIngressLimitExceededException(
+		IngressLimitExceededException exception,
+		HttpServletRequest request
+	) {
+		return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(ErrorResponse.of(INGRESS_LIMIT_MESSAGE, request.getRequestURI(), validationErrorMapper.capture(exception.getError())));
+	}
 
-		return ResponseEntity.badRequest().body(ErrorResponse.of("입력값 검증에 실패했습니다", request.getRequestURI(), errorDetails));
+	// Jackson의 maxNestingDepth/maxDocumentLength 위반
+	@ExceptionHandler(StreamConstraintsException.class)
+	public ResponseEntity<ErrorResponse> handleStreamConstraintsException(
+		StreamConstraintsException exception,
+		HttpServletRequest request
+	) {
+		ErrorDetail errorDetail = new ErrorDetail("body", null, exception.getOriginalMessage(), "StreamConstraints");
+		return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(ErrorResponse.of(INGRESS_LIMIT_MESSAGE, request.getRequestURI(), errorDetail));
 	}
 
 	// @ExceptionHandler(HandlerMethodValidationException.class)
@@ -118,6 +144,6 @@ public class GlobalExceptionHandler {
 	// 		}
 	// 	});
 	//
-	// 	return ResponseEntity.badRequest().body(ErrorResponse.of("입력값 검증에 실패했습니다", request.getRequestURI(), errorDetails));
+	// 	return ResponseEntity.badRequest().body(ErrorResponse.of(ValidationErrorMapper.MESSAGE, request.getRequestURI(), errorDetails));
 	// }
 }
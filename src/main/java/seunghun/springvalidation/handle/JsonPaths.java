@@ -0,0 +1,55 @@
+package seunghun.springvalidation.handle;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+/**
+ * Jackson 파싱 위치를 BindingResult 필드 경로 형식({@code users[1]}, {@code user})으로 바꾼다.
+ */
+public final class JsonPaths {
+	private JsonPaths() {
+	}
+
+	public static String of(JsonStreamContext context) {
+		Deque<JsonStreamContext> contexts = new ArrayDeque<>();
+		for (JsonStreamContext current = context; current != null && !current.inRoot(); current = current.getParent()) {
+			contexts.push(current);
+		}
+
+		StringBuilder path = new StringBuilder();
+		for (JsonStreamContext current : contexts) {
+			if (current.inArray()) {
+				path.append('[').append(current.getCurrentIndex()).append(']');
+			} else if (current.getCurrentName() != null) {
+				if (!path.isEmpty()) {
+					path.append('.');
+				}
+
+				path.append(current.getCurrentName());
+			}
+		}
+
+		return path.toString();
+	}
+
+	public static String of(List<JsonMappingException.Reference> references) {
+		StringBuilder path = new StringBuilder();
+		for (JsonMappingException.Reference reference : references) {
+			if (reference.getIndex() >= 0) {
+				path.append('[').append(reference.getIndex()).append(']');
+			} else if (reference.getFieldName() != null) {
+				if (!path.isEmpty()) {
+					path.append('.');
+				}
+
+				path.append(reference.getFieldName());
+			}
+		}
+
+		return path.toString();
+	}
+}
@@ -0,0 +1,15 @@
+package seunghun.springvalidation.handle;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 빈이 없는 슬라이스 테스트나 다른 애플리케이션에서는 RejectedValuePolicy.DEFAULT를 사용한다
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(RejectedValueProperties.class)
+public class RejectedValueConfig {
+	@Bean
+	RejectedValuePolicy rejectedValuePolicy(RejectedValueProperties properties) {
+		return properties.toPolicy();
+	}
+}
@@ -0,0 +1,16 @@
+package seunghun.springvalidation.handle;
+
+public enum RejectedValueMode {
+	/**
+	 * 값을 그대로 응답한다
+	 */
+	FULL,
+	/**
+	 * 문자열은 maxLength로 자르고, 컬렉션/배열/Map은 크기로, 그 외 객체는 타입 이름으로 요약한다
+	 */
+	CAPTURE,
+	/**
+	 * 값을 응답하지 않는다
+	 */
+	OMIT
+}
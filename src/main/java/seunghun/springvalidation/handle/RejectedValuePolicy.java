@@ -0,0 +1,106 @@
+package seunghun.springvalidation.handle;
+
+import java.lang.reflect.Array;
+import java.time.temporal.TemporalAccessor;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * ErrorDetail을 만들 때 rejectedValue를 줄여, 큰 문자열이나 객체 그래프를 응답 직렬화까지 붙잡고 있지 않도록 한다.
+ * 필드별 설정은 인덱스를 뺀 경로({@code users[1].name} → {@code users.name})로 찾는다.
+ * {@link RejectedValueConfig}가 빈으로 등록하며, ErrorDetail을 만드는 핸들러와 리졸버에 주입된다.
+ */
+public final class RejectedValuePolicy {
+	public static final RejectedValuePolicy DEFAULT = new RejectedValuePolicy(RejectedValueMode.CAPTURE, 100, Map.of());
+
+	private static final Pattern INDEX = Pattern.compile("\\[\\d*]");
+
+	private final RejectedValueMode mode;
+	private final int maxLength;
+	private final Map<String, RejectedValueMode> fields;
+
+	public RejectedValuePolicy(RejectedValueMode mode, int maxLength, Map<String, RejectedValueMode> fields) {
+		this.mode = mode;
+		this.maxLength = Math.max(maxLength, 1);
+		this.fields = Map.copyOf(fields);
+	}
+
+	public Object capture(String field, Object value) {
+		if (value == null) {
+			return null;
+		}
+
+		return switch (modeOf(field)) {
+			case FULL -> value;
+			case OMIT -> null;
+			case CAPTURE -> summarize(value);
+		};
+	}
+
+	private RejectedValueMode modeOf(String field) {
+		if (fields.isEmpty() || field == null) {
+			return mode;
+		}
+
+		String key = INDEX.matcher(field).replaceAll("");
+		if (key.startsWith(".")) {
+			key = key.substring(1);
+		}
+
+		return fields.getOrDefault(key, mode);
+	}
+
+	private Object summarize(Object value) {
+		if (value instanceof Number || value instanceof Boolean || value instanceof Character || value instanceof Enum<?>) {
+			return value;
+		}
+
+		if (value instanceof CharSequence text) {
+			return truncate(text);
+		}
+
+		if (value instanceof Collection<?> collection) {
+			return collectionType(collection) + "(size=" + collection.size() + ")";
+		}
+
+		if (value instanceof Map<?, ?> map) {
+			return "Map(size=" + map.size() + ")";
+		}
+
+		if (value.getClass().isArray()) {
+			return "Array(size=" + Array.getLength(value) + ")";
+		}
+
+		if (value instanceof TemporalAccessor || value instanceof UUID) {
+			return truncate(value.toString());
+		}
+
+		// 중첩 DTO는 toString이 전체 그래프를 펼칠 수 있으므로 타입만 남긴다
+		return value.getClass().getSimpleName();
+	}
+
+	// 잘린 결과도 maxLength 이하이므로 같은 값을 다시 적용해도 바뀌지 않는다
+	private String truncate(CharSequence text) {
+		if (text.length() <= maxLength) {
+			return text.toString();
+		}
+
+		return text.subSequence(0, maxLength - 1) + "…";
+	}
+
+	private static String collectionType(Collection<?> collection) {
+		if (collection instanceof List<?>) {
+			return "List";
+		}
+
+		if (collection instanceof Set<?>) {
+			return "Set";
+		}
+
+		return "Collection";
+	}
+}
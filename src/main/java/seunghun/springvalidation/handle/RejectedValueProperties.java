@@ -0,0 +1,20 @@
+package seunghun.springvalidation.handle;
+
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param fields 필드별 모드. 키는 인덱스를 뺀 필드 경로이며 점이 들어가면 {@code fields[users.name]=OMIT}처럼 쓴다
+ */
+@ConfigurationProperties("validation.rejected-value")
+public record RejectedValueProperties(
+	@DefaultValue("CAPTURE") RejectedValueMode mode,
+	@DefaultValue("100") int maxLength,
+	Map<String, RejectedValueMode> fields
+) {
+	public RejectedValuePolicy toPolicy() {
+		return new RejectedValuePolicy(mode, maxLength, fields == null ? Map.of() : fields);
+	}
+}
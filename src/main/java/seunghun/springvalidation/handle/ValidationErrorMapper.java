@@ -0,0 +1,78 @@
+package seunghun.springvalidation.handle;
+
+import java.util.List;
+
+import jakarta.validation.ConstraintViolation;
+
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.method.MethodValidationResult;
+import org.springframework.validation.method.ParameterErrors;
+
+/**
+ * 검증 결과를 ErrorDetail로 바꾸면서 rejectedValue에 {@link RejectedValuePolicy}를 적용한다
+ */
+public final class ValidationErrorMapper {
+	public static final String MESSAGE = "입력값 검증에 실패했습니다";
+
+	private final RejectedValuePolicy rejectedValuePolicy;
+
+	public ValidationErrorMapper(RejectedValuePolicy rejectedValuePolicy) {
+		this.rejectedValuePolicy = rejectedValuePolicy;
+	}
+
+	public List<ErrorDetail> toErrorDetails(MethodValidationResult validationResult) {
+		return validationResult.getParameterValidationResults()
+			.stream()
+			.flatMap(result -> {
+				if (result instanceof ParameterErrors errors) {
+					return errors.getFieldErrors()
+						.stream()
+						.map(fieldError -> toErrorDetail(getFieldName(result.getContainerIndex(), fieldError.getField()), fieldError.getRejectedValue(), fieldError.getDefaultMessage(), fieldError.getCode()));
+				}
+
+				return result.getResolvableErrors()
+				.stream()
+				.map(resolvable -> toErrorDetail(result.getMethodParameter().getParameterName(), result.getArgument(), resolvable.getDefaultMessage(), getCode(resolvable)));
+			})
+			.toList();
+	}
+
+	public List<ErrorDetail> toErrorDetails(BindingResult bindingResult) {
+		return bindingResult.getFieldErrors()
+			.stream()
+			.map(fieldError -> toErrorDetail(fieldError.getField(), fieldError.getRejectedValue(), fieldError.getDefaultMessage(), fieldError.getCode()))
+			.toList();
+	}
+
+	public ErrorDetail toErrorDetail(String field, ConstraintViolation<?> violation) {
+		return toErrorDetail(field, violation.getInvalidValue(), violation.getMessage(), getCode(violation));
+	}
+
+	public ErrorDetail toErrorDetail(String field, Object rejectedValue, String message, String code) {
+		return new ErrorDetail(field, rejectedValuePolicy.capture(field, rejectedValue), message, code);
+	}
+
+	// 예외에 미리 담긴 ErrorDetail처럼 정책을 거치지 않은 값에 적용한다
+	public ErrorDetail capture(ErrorDetail errorDetail) {
+		return toErrorDetail(errorDetail.field(), errorDetail.rejectedValue(), errorDetail.message(), errorDetail.code());
+	}
+
+	public static String getCode(ConstraintViolation<?> violation) {
+		return violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName();
+	}
+
+	// 코드는 구체적인 것부터 나열되므로 마지막이 제약조건 이름(예: Min)이다
+	private static String getCode(MessageSourceResolvable resolvable) {
+		String[] codes = resolvable.getCodes();
+		return codes == null || codes.length == 0 ? null : codes[codes.length - 1];
+	}
+
+	private static String getFieldName(Integer containerIndex, String fieldName) {
+		if (containerIndex != null) {
+			return "[" + containerIndex + "]." + fieldName;
+		}
+
+		return fieldName;
+	}
+}
@@ -1,7 +1,9 @@
 package seunghun.springvalidation.handle;
 
+import java.io.IOException;
 import java.util.List;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -9,15 +11,22 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import seunghun.springvalidation.failfast.FailFast;
 import seunghun.springvalidation.handle.dto.ContentDto;
 import seunghun.springvalidation.handle.dto.GroupDto;
 import seunghun.springvalidation.handle.dto.UserDto;
+import seunghun.springvalidation.handle.partial.PartialBody;
+import seunghun.springvalidation.handle.stream.BulkValidation;
+import seunghun.springvalidation.handle.stream.StreamingBody;
+import seunghun.springvalidation.result.ValidationResultMode;
 
 @RestController
 @RequestMapping("/handle/api/test")
@@ -34,6 +43,7 @@ public class ValidationTestController {
 		return "age is " + age;
 	}
 
+	@FailFast
 	@RequestMapping("/multiple-param")
 	public String multipleParam(
 		@RequestParam @Positive @Min(1) Integer page,
@@ -58,9 +68,54 @@ public class ValidationTestController {
 		return "group name: " + group.name() + ", users: " + group.users();
 	}
 
+	@ValidationResultMode
+	@RequestMapping("/result/single-param")
+	public String resultSingleParam(
+		@RequestParam @Min(10) int age
+	) {
+		return "age is " + age;
+	}
+
+	@ValidationResultMode
+	@PostMapping("/result/request-body")
+	public String resultRequestBody(@RequestBody @Valid UserDto user) {
+		return "user: " + user.name();
+	}
+
+	@ValidationResultMode
+	@PostMapping("/result/nested-list")
+	public String resultNestedList(@RequestBody @Valid GroupDto group) {
+		return "group name: " + group.name() + ", users: " + group.users();
+	}
+
+	@PatchMapping("/request-body")
+	public String patchRequestBody(@PartialBody UserDto user) {
+		return "name: " + user.name() + ", age: " + user.age();
+	}
+
+	@PatchMapping("/nested")
+	public String patchNested(@PartialBody ContentDto content) {
+		return "content: " + content.content() + ", user: " + content.user();
+	}
+
+	@PatchMapping("/nested-list")
+	public String patchNestedList(@PartialBody GroupDto group) {
+		return "group name: " + group.name() + ", users: " + group.users();
+	}
+
 
 	@PostMapping("/users-list")
-	public String usersList(@RequestBody @Valid List<UserDto> users) {
+	public String usersList(@StreamingBody List<UserDto> users) {
 		return "users count: " + users.size();
 	}
+
+	@PostMapping(value = "/bulk/users", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+	public void bulkUsers(BulkValidation<UserDto> users, HttpServletResponse response) throws IOException {
+		users.writeResults(response);
+	}
+
+	@PostMapping(value = "/bulk/contents", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+	public void bulkContents(BulkValidation<ContentDto> contents, HttpServletResponse response) throws IOException {
+		contents.writeResults(response);
+	}
 }
@@ -3,6 +3,9 @@ package seunghun.springvalidation.handle.dto;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 
+import seunghun.springvalidation.parsetime.ParseTimeValidated;
+
+@ParseTimeValidated
 public record ContentDto(
 	@Valid UserDto user,
 	@NotBlank(message = "내용은 필수입니다") String content
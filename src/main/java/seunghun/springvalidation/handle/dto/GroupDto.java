@@ -5,8 +5,12 @@ import java.util.List;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 
+import seunghun.springvalidation.cascade.ParallelCascade;
+import seunghun.springvalidation.parsetime.ParseTimeValidated;
+
+@ParseTimeValidated
 public record GroupDto(
 	@NotBlank(message = "이름은 필수입니다") String name,
-	@Valid List<UserDto> users
+	@Valid @ParallelCascade List<UserDto> users
 ) {
 }
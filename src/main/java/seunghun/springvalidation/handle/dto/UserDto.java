@@ -5,6 +5,9 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 
+import seunghun.springvalidation.parsetime.ParseTimeValidated;
+
+@ParseTimeValidated
 public record UserDto(
 	@NotBlank(message = "이름은 필수입니다")
 	String name,
@@ -0,0 +1,17 @@
+package seunghun.springvalidation.handle.partial;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * PATCH처럼 일부 프로퍼티만 보내는 JSON 본문을 DTO로 읽고, 본문에 있는 프로퍼티의 제약조건만 검사한다.
+ * 본문에 없는 프로퍼티와 그 cascade는 검사하지 않는다. 위반은 {@code @Valid @RequestBody}와 같은 MethodArgumentNotValidException으로 던진다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface PartialBody {
+}
@@ -0,0 +1,139 @@
+package seunghun.springvalidation.handle.partial;
+
+import java.io.IOException;
+import java.util.Map;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.metadata.PropertyDescriptor;
+
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.core.Conventions;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seunghun.springvalidation.handle.ValidationErrorMapper;
+import seunghun.springvalidation.parsetime.ParseTimeValidationSupport;
+
+/**
+ * 본문을 JsonNode로 읽어 존재하는 프로퍼티를 찾고, 프로퍼티마다 {@link Validator#validateProperty}로 검사한다.
+ * cascade 대상은 본문에 객체나 배열로 있을 때만 같은 방식으로 내려가며, 필드 경로는 {@code user.age}, {@code users[0].name} 형식이다.
+ * JSON 이름과 자바 프로퍼티 이름이 같다고 가정한다.
+ */
+public class PartialBodyArgumentResolver implements HandlerMethodArgumentResolver {
+	private final ObjectMapper objectMapper;
+	private final Validator validator;
+
+	public PartialBodyArgumentResolver(ObjectMapper objectMapper, Validator validator) {
+		this.objectMapper = objectMapper;
+		this.validator = validator;
+	}
+
+	@Override
+	public boolean supportsParameter(MethodParameter parameter) {
+		return parameter.hasParameterAnnotation(PartialBody.class);
+	}
+
+	@Override
+	public Object resolveArgument(
+		MethodParameter parameter,
+		ModelAndViewContainer mavContainer,
+		NativeWebRequest webRequest,
+		WebDataBinderFactory binderFactory
+	) throws Exception {
+		HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+
+		JsonNode body;
+		Object target;
+		try {
+			body = objectMapper.readTree(request.getInputStream());
+			if (body == null || !body.isObject()) {
+				throw new HttpMessageNotReadableException("Required request body must be a JSON object", new ServletServerHttpRequest(request));
+			}
+
+			// 본문에 없는 프로퍼티까지 검사하지 않도록 역직렬화 중 검증은 끈다
+			JsonNode source = body;
+			target = ParseTimeValidationSupport.withoutValidation(
+				() -> objectMapper.treeToValue(source, objectMapper.constructType(parameter.getGenericParameterType()))
+			);
+		} catch (IOException exception) {
+			throw new HttpMessageNotReadableException("JSON parse error: " + exception.getMessage(), exception, new ServletServerHttpRequest(request));
+		}
+
+		BindingResult bindingResult = new BeanPropertyBindingResult(target, Conventions.getVariableNameForParameter(parameter));
+		validate(target, body, "", bindingResult);
+		if (bindingResult.hasErrors()) {
+			throw new MethodArgumentNotValidException(parameter, bindingResult);
+		}
+
+		return target;
+	}
+
+	private void validate(Object bean, JsonNode node, String path, BindingResult bindingResult) {
+		for (Map.Entry<String, JsonNode> field : node.properties()) {
+			String property = field.getKey();
+
+			// 제약조건도 cascade도 없는 프로퍼티는 null이다
+			PropertyDescriptor descriptor = validator.getConstraintsForClass(bean.getClass()).getConstraintsForProperty(property);
+			if (descriptor == null) {
+				continue;
+			}
+
+			for (ConstraintViolation<Object> violation : validator.validateProperty(bean, property)) {
+				addError(bindingResult, path + violation.getPropertyPath(), violation);
+			}
+
+			if (descriptor.isCascaded()) {
+				cascade(new DirectFieldAccessor(bean).getPropertyValue(property), field.getValue(), path + property, bindingResult);
+			}
+		}
+	}
+
+	private void cascade(Object value, JsonNode node, String path, BindingResult bindingResult) {
+		if (value == null) {
+			return;
+		}
+
+		if (value instanceof Iterable<?> elements && node.isArray()) {
+			int index = 0;
+			for (Object element : elements) {
+				JsonNode elementNode = node.get(index);
+				if (element != null && elementNode != null && elementNode.isObject()) {
+					validate(element, elementNode, path + "[" + index + "].", bindingResult);
+				}
+				index++;
+			}
+			return;
+		}
+
+		if (node.isObject()) {
+			validate(value, node, path + ".", bindingResult);
+		}
+	}
+
+	private static void addError(BindingResult bindingResult, String field, ConstraintViolation<Object> violation) {
+		String code = ValidationErrorMapper.getCode(violation);
+		bindingResult.addError(new FieldError(
+			bindingResult.getObjectName(),
+			field,
+			violation.getInvalidValue(),
+			false,
+			bindingResult.resolveMessageCodes(code, field),
+			null,
+			violation.getMessage()
+		));
+	}
+}
@@ -0,0 +1,27 @@
+package seunghun.springvalidation.handle.partial;
+
+import java.util.List;
+
+import jakarta.validation.Validator;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Configuration(proxyBeanMethods = false)
+public class PartialBodyConfig implements WebMvcConfigurer {
+	private final ObjectMapper objectMapper;
+	private final Validator validator;
+
+	public PartialBodyConfig(ObjectMapper objectMapper, Validator validator) {
+		this.objectMapper = objectMapper;
+		this.validator = validator;
+	}
+
+	@Override
+	public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+		resolvers.add(new PartialBodyArgumentResolver(objectMapper, validator));
+	}
+}
@@ -0,0 +1,27 @@
+package seunghun.springvalidation.handle.stream;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import seunghun.springvalidation.handle.ErrorDetail;
+
+/**
+ * NDJSON 벌크 검증 응답의 한 줄
+ *
+ * @param line 요청 본문의 줄 번호 (1부터)
+ * @param errors 통과한 줄은 생략한다
+ */
+public record BulkLineResult(
+	long line,
+	boolean valid,
+	@JsonInclude(JsonInclude.Include.NON_NULL) List<ErrorDetail> errors
+) {
+	public static BulkLineResult passed(long line) {
+		return new BulkLineResult(line, true, null);
+	}
+
+	public static BulkLineResult failed(long line, List<ErrorDetail> errors) {
+		return new BulkLineResult(line, false, errors);
+	}
+}
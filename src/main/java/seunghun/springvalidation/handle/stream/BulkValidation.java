@@ -0,0 +1,282 @@
+package seunghun.springvalidation.handle.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.exc.StreamConstraintsException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+
+import seunghun.springvalidation.handle.ErrorDetail;
+import seunghun.springvalidation.handle.JsonPaths;
+import seunghun.springvalidation.handle.ValidationErrorMapper;
+import seunghun.springvalidation.ingress.IngressLimitExceededException;
+import seunghun.springvalidation.parsetime.ParseTimeValidationException;
+import seunghun.springvalidation.parsetime.ParseTimeValidationSupport;
+
+/**
+ * NDJSON 본문을 한 줄씩 읽어 검증하고, 줄마다 결과를 바로 NDJSON으로 응답한다.
+ * 읽은 레코드와 결과를 보관하지 않으므로 입력 크기와 관계없이 한 줄 분량의 메모리만 사용한다.
+ */
+public class BulkValidation<T> {
+	private static final String PARSE_ERROR_MESSAGE = "JSON 형식이 올바르지 않습니다";
+	private static final int FLUSH_LINES = 1000;
+
+	private final InputStream inputStream;
+	private final ObjectReader reader;
+	private final ObjectMapper objectMapper;
+	private final ObjectWriter resultWriter;
+	private final Validator validator;
+	private final ValidationErrorMapper validationErrorMapper;
+	private final int maxLineBytes;
+
+	BulkValidation(
+		InputStream inputStream,
+		ObjectReader reader,
+		ObjectMapper objectMapper,
+		Validator validator,
+		ValidationErrorMapper validationErrorMapper,
+		int maxLineBytes
+	) {
+		this.inputStream = inputStream;
+		this.reader = reader;
+		this.objectMapper = objectMapper;
+		// 결과마다 flush하지 않도록 한다
+		this.resultWriter = objectMapper.writerFor(BulkLineResult.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		this.validator = validator;
+		this.validationErrorMapper = validationErrorMapper;
+		this.maxLineBytes = maxLineBytes;
+	}
+
+	public void writeResults(HttpServletResponse response) throws IOException {
+		response.setStatus(HttpStatus.OK.value());
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+
+		LineReader lines = new LineReader(inputStream, maxLineBytes);
+		try (JsonGenerator generator = objectMapper.createGenerator(response.getOutputStream())) {
+			long lineNumber = 0;
+			int unflushedLines = 0;
+			while (lines.next()) {
+				lineNumber++;
+				if (lines.isBlank()) {
+					continue;
+				}
+
+				resultWriter.writeValue(generator, validateLine(lineNumber, lines));
+				generator.writeRaw('\n');
+
+				// 출력 버퍼는 가득 차면 알아서 내보내므로, 입력을 기다리기 전과 일정 줄 수마다만 flush한다
+				if (++unflushedLines >= FLUSH_LINES || lines.isDrained()) {
+					generator.flush();
+					unflushedLines = 0;
+				}
+
+				// 중첩 객체까지 기록되므로 줄마다 비운다
+				ParseTimeValidationSupport.reset();
+			}
+		}
+	}
+
+	private BulkLineResult validateLine(long lineNumber, LineReader lines) throws IOException {
+		if (lines.isOverflowed()) {
+			return BulkLineResult.failed(lineNumber, List.of(
+				new ErrorDetail("body", null, "한 줄은 최대 " + maxLineBytes + "바이트까지 허용됩니다", "MaxBytes")
+			));
+		}
+
+		T value;
+		try {
+			value = reader.readValue(lines.bytes(), 0, lines.length());
+		} catch (JsonProcessingException exception) {
+			return BulkLineResult.failed(lineNumber, readErrors(exception));
+		} catch (ParseTimeValidationException exception) {
+			return BulkLineResult.failed(lineNumber, exception.getErrors());
+		} catch (IngressLimitExceededException exception) {
+			return BulkLineResult.failed(lineNumber, List.of(exception.getError()));
+		}
+
+		if (value == null) {
+			return BulkLineResult.failed(lineNumber, List.of(new ErrorDetail("body", null, PARSE_ERROR_MESSAGE, "ParseError")));
+		}
+
+		// 이미 역직렬화 중 검증을 통과했으면 다시 검증하지 않는다
+		if (ParseTimeValidationSupport.isValidated(value)) {
+			return BulkLineResult.passed(lineNumber);
+		}
+
+		Set<ConstraintViolation<T>> violations = validator.validate(value);
+		if (violations.isEmpty()) {
+			return BulkLineResult.passed(lineNumber);
+		}
+
+		List<ErrorDetail> errors = new ArrayList<>(violations.size());
+		for (ConstraintViolation<T> violation : violations) {
+			errors.add(validationErrorMapper.toErrorDetail(violation.getPropertyPath().toString(), violation));
+		}
+
+		return BulkLineResult.failed(lineNumber, errors);
+	}
+
+	// 요소 역직렬화 중 던져진 예외는 JsonMappingException으로 감싸져 올라온다
+	private static List<ErrorDetail> readErrors(JsonProcessingException exception) {
+		for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+			if (cause instanceof ParseTimeValidationException parseTimeValidationException) {
+				return parseTimeValidationException.getErrors();
+			}
+
+			if (cause instanceof IngressLimitExceededException ingressLimitExceededException) {
+				return List.of(ingressLimitExceededException.getError());
+			}
+
+			if (cause instanceof StreamConstraintsException streamConstraintsException) {
+				return List.of(new ErrorDetail("body", null, streamConstraintsException.getOriginalMessage(), "StreamConstraints"));
+			}
+		}
+
+		if (exception instanceof MismatchedInputException mismatchedInputException && !mismatchedInputException.getPath().isEmpty()) {
+			return List.of(new ErrorDetail(JsonPaths.of(mismatchedInputException.getPath()), null, "타입이 올바르지 않습니다", "TypeMismatch"));
+		}
+
+		if (exception instanceof JsonMappingException jsonMappingException && !jsonMappingException.getPath().isEmpty()) {
+			return List.of(new ErrorDetail(JsonPaths.of(jsonMappingException.getPath()), null, exception.getOriginalMessage(), "ParseError"));
+		}
+
+		return List.of(new ErrorDetail("body", null, PARSE_ERROR_MESSAGE, "ParseError"));
+	}
+
+	/**
+	 * 줄을 디코딩하지 않고 UTF-8 바이트 그대로 읽어 max-bytes를 인코딩된 크기로 센다.
+	 * UTF-8의 멀티바이트 문자에는 {@code \n} 바이트가 나오지 않으므로 읽은 덩어리에서 바이트 단위로 줄 끝을 찾는다.
+	 * 줄 버퍼를 재사용하고, maxLineBytes를 넘는 부분은 버퍼에 담지 않고 건너뛴다.
+	 */
+	private static final class LineReader {
+		private final InputStream inputStream;
+		private final int maxLineBytes;
+		private final byte[] buffer = new byte[8192];
+		private int position;
+		private int limit;
+		private byte[] line = new byte[256];
+		private int length;
+		private long lineBytes;
+
+		LineReader(InputStream inputStream, int maxLineBytes) {
+			this.inputStream = inputStream;
+			this.maxLineBytes = maxLineBytes;
+		}
+
+		boolean next() throws IOException {
+			length = 0;
+			lineBytes = 0;
+			if (!fill()) {
+				return false;
+			}
+
+			while (true) {
+				int end = position;
+				while (end < limit && buffer[end] != '\n') {
+					end++;
+				}
+
+				append(position, end);
+				if (end < limit) {
+					position = end + 1;
+					break;
+				}
+
+				position = limit;
+				if (!fill()) {
+					break;
+				}
+			}
+
+			// CRLF 줄바꿈의 \r은 줄에 포함하지 않는다
+			if (lineBytes == length && length > 0 && line[length - 1] == '\r') {
+				length--;
+				lineBytes--;
+			}
+
+			return true;
+		}
+
+		// 읽어 둔 바이트가 없을 때만 스트림에서 읽는다. 이때 읽기가 블록될 수 있다
+		private boolean fill() throws IOException {
+			if (position < limit) {
+				return true;
+			}
+
+			int read = inputStream.read(buffer);
+			position = 0;
+			limit = Math.max(read, 0);
+			return read > 0;
+		}
+
+		// 줄 끝의 \r을 판단할 수 있도록 maxLineBytes보다 한 바이트 더 담는다
+		private void append(int from, int to) {
+			int count = to - from;
+			lineBytes += count;
+
+			int copy = (int)Math.min(count, (long)maxLineBytes + 1 - length);
+			if (copy <= 0) {
+				return;
+			}
+
+			if (length + copy > line.length) {
+				line = Arrays.copyOf(line, (int)Math.min(Math.max((long)line.length * 2, length + copy), (long)maxLineBytes + 1));
+			}
+
+			System.arraycopy(buffer, from, line, length, copy);
+			length += copy;
+		}
+
+		// 읽어 둔 바이트를 모두 처리해서 다음 줄을 읽을 때 블록될 수 있다
+		boolean isDrained() {
+			return position == limit;
+		}
+
+		boolean isOverflowed() {
+			return lineBytes > maxLineBytes;
+		}
+
+		// JSON 공백은 모두 ASCII이다
+		boolean isBlank() {
+			if (isOverflowed()) {
+				return false;
+			}
+
+			for (int i = 0; i < length; i++) {
+				if (line[i] != ' ' && line[i] != '\t' && line[i] != '\r') {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		byte[] bytes() {
+			return line;
+		}
+
+		int length() {
+			return length;
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package seunghun.springvalidation.handle.stream;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Validator;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seunghun.springvalidation.handle.ValidationErrorMapper;
+
+public class BulkValidationArgumentResolver implements HandlerMethodArgumentResolver {
+	private final ObjectMapper objectMapper;
+	private final Validator validator;
+	private final ValidationErrorMapper validationErrorMapper;
+	private final int maxLineBytes;
+
+	public BulkValidationArgumentResolver(ObjectMapper objectMapper, Validator validator, ValidationErrorMapper validationErrorMapper, int maxLineBytes) {
+		this.objectMapper = objectMapper;
+		this.validator = validator;
+		this.validationErrorMapper = validationErrorMapper;
+		this.maxLineBytes = maxLineBytes;
+	}
+
+	@Override
+	public boolean supportsParameter(MethodParameter parameter) {
+		return BulkValidation.class == parameter.getParameterType();
+	}
+
+	@Override
+	public Object resolveArgument(
+		MethodParameter parameter,
+		ModelAndViewContainer mavContainer,
+		NativeWebRequest webRequest,
+		WebDataBinderFactory binderFactory
+	) throws Exception {
+		HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+		return new BulkValidation<>(
+			request.getInputStream(),
+			objectMapper.readerFor(objectMapper.getTypeFactory().constructType(ResolvableType.forMethodParameter(parameter).getGeneric(0).getType())),
+			objectMapper,
+			validator,
+			validationErrorMapper,
+			maxLineBytes
+		);
+	}
+}
@@ -0,0 +1,24 @@
+package seunghun.springvalidation.handle.stream;
+
+import java.util.List;
+
+import seunghun.springvalidation.handle.ErrorDetail;
+
+public class StreamValidationException extends RuntimeException {
+	private final List<ErrorDetail> errors;
+	private final boolean truncated;
+
+	public StreamValidationException(List<ErrorDetail> errors, boolean truncated) {
+		super("Stream validation failed with " + errors.size() + " error(s)");
+		this.errors = errors;
+		this.truncated = truncated;
+	}
+
+	public List<ErrorDetail> getErrors() {
+		return errors;
+	}
+
+	public boolean isTruncated() {
+		return truncated;
+	}
+}
@@ -0,0 +1,10 @@
+package seunghun.springvalidation.handle.stream;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("validation.stream")
+public record StreamValidationProperties(
+	@DefaultValue("100") int errorBudget
+) {
+}
@@ -0,0 +1,21 @@
+package seunghun.springvalidation.handle.stream;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * JSON 배열 본문을 요소 단위로 읽으면서 바로 검증한다.
+ * 에러 수가 errorBudget에 도달하면 나머지 본문은 읽지 않는다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface StreamingBody {
+	/**
+	 * 0 이하이면 validation.stream.error-budget 설정을 사용하고, 설정도 0 이하이면 에러 수를 제한하지 않는다
+	 */
+	int errorBudget() default 0;
+}
@@ -0,0 +1,155 @@
+package seunghun.springvalidation.handle.stream;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import seunghun.springvalidation.handle.ErrorDetail;
+import seunghun.springvalidation.handle.ValidationErrorMapper;
+import seunghun.springvalidation.ingress.IngressLimitExceededException;
+import seunghun.springvalidation.parsetime.ParseTimeValidationException;
+import seunghun.springvalidation.parsetime.ParseTimeValidationSupport;
+
+public class StreamingBodyArgumentResolver implements HandlerMethodArgumentResolver {
+	private final ObjectMapper objectMapper;
+	private final Validator validator;
+	private final ValidationErrorMapper validationErrorMapper;
+	private final int defaultErrorBudget;
+	private final int maxElements;
+
+	/**
+	 * @param defaultErrorBudget 0 이하이면 에러 수를 제한하지 않는다
+	 * @param maxElements 0 이하이면 요소 수를 제한하지 않는다
+	 */
+	public StreamingBodyArgumentResolver(
+		ObjectMapper objectMapper,
+		Validator validator,
+		ValidationErrorMapper validationErrorMapper,
+		int defaultErrorBudget,
+		int maxElements
+	) {
+		this.objectMapper = objectMapper;
+		this.validator = validator;
+		this.validationErrorMapper = validationErrorMapper;
+		this.defaultErrorBudget = defaultErrorBudget;
+		this.maxElements = maxElements;
+	}
+
+	@Override
+	public boolean supportsParameter(MethodParameter parameter) {
+		return parameter.hasParameterAnnotation(StreamingBody.class) && List.class.isAssignableFrom(parameter.getParameterType());
+	}
+
+	@Override
+	public Object resolveArgument(
+		MethodParameter parameter,
+		ModelAndViewContainer mavContainer,
+		NativeWebRequest webRequest,
+		WebDataBinderFactory binderFactory
+	) throws Exception {
+		HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+		StreamingBody streamingBody = parameter.getParameterAnnotation(StreamingBody.class);
+		int errorBudget = errorBudget(streamingBody);
+		ObjectReader reader = objectMapper.readerFor(
+			objectMapper.getTypeFactory().constructType(ResolvableType.forMethodParameter(parameter).getGeneric(0).getType())
+		);
+
+		List<Object> values = new ArrayList<>();
+		List<ErrorDetail> errors = new ArrayList<>();
+
+		try (JsonParser parser = objectMapper.createParser(request.getInputStream())) {
+			if (parser.nextToken() != JsonToken.START_ARRAY) {
+				throw new HttpMessageNotReadableException("Required request body must be a JSON array", new ServletServerHttpRequest(request));
+			}
+
+			int index = 0;
+			JsonToken token;
+			while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+				if (token == null) {
+					throw new HttpMessageNotReadableException("Unexpected end of JSON array", new ServletServerHttpRequest(request));
+				}
+
+				if (maxElements > 0 && index >= maxElements) {
+					throw IngressLimitExceededException.elements(parameter.getParameterName(), maxElements);
+				}
+
+				Object element;
+				try {
+					element = reader.readValue(parser);
+				} catch (ParseTimeValidationException exception) {
+					// 요소를 끝까지 읽은 뒤 던져지므로 다음 요소부터 계속 읽을 수 있다
+					errors.addAll(exception.getErrors());
+					element = null;
+				}
+
+				if (element != null && !ParseTimeValidationSupport.isValidated(element)) {
+					validate(element, index, errors);
+				}
+
+				if (errors.size() >= errorBudget) {
+					// 예산을 넘긴 위반을 버렸거나 읽지 않은 요소가 남아 있을 때만 잘린 것이다
+					boolean truncated = errors.size() > errorBudget || hasMoreElements(parser);
+					throw new StreamValidationException(List.copyOf(errors.subList(0, errorBudget)), truncated);
+				}
+
+				// 실패가 확정되면 더 이상 요소를 보관하지 않는다
+				if (errors.isEmpty()) {
+					values.add(element);
+				}
+
+				index++;
+			}
+		} catch (IOException exception) {
+			throw new HttpMessageNotReadableException("JSON parse error: " + exception.getMessage(), exception, new ServletServerHttpRequest(request));
+		}
+
+		if (!errors.isEmpty()) {
+			throw new StreamValidationException(List.copyOf(errors), false);
+		}
+
+		return values;
+	}
+
+	// 다음 토큰만 확인한다. 남은 입력이 올바른 JSON이 아니어도 읽지 않은 요소가 있는 것으로 본다
+	private boolean hasMoreElements(JsonParser parser) {
+		try {
+			return parser.nextToken() != JsonToken.END_ARRAY;
+		} catch (IOException exception) {
+			return true;
+		}
+	}
+
+	private void validate(Object element, int index, List<ErrorDetail> errors) {
+		Set<ConstraintViolation<Object>> violations = validator.validate(element);
+		for (ConstraintViolation<Object> violation : violations) {
+			errors.add(validationErrorMapper.toErrorDetail("[" + index + "]." + violation.getPropertyPath(), violation));
+		}
+	}
+
+	private int errorBudget(StreamingBody streamingBody) {
+		if (streamingBody.errorBudget() > 0) {
+			return streamingBody.errorBudget();
+		}
+
+		return defaultErrorBudget > 0 ? defaultErrorBudget : Integer.MAX_VALUE;
+	}
+}
@@ -0,0 +1,51 @@
+package seunghun.springvalidation.handle.stream;
+
+import java.util.List;
+
+import jakarta.validation.Validator;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seunghun.springvalidation.handle.RejectedValuePolicy;
+import seunghun.springvalidation.handle.ValidationErrorMapper;
+import seunghun.springvalidation.ingress.IngressProperties;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties({StreamValidationProperties.class, IngressProperties.class})
+public class StreamingBodyConfig implements WebMvcConfigurer {
+	private final ObjectMapper objectMapper;
+	private final Validator validator;
+	private final StreamValidationProperties properties;
+	private final IngressProperties ingressProperties;
+	private final ValidationErrorMapper validationErrorMapper;
+
+	public StreamingBodyConfig(
+		ObjectMapper objectMapper,
+		Validator validator,
+		StreamValidationProperties properties,
+		IngressProperties ingressProperties,
+		ObjectProvider<RejectedValuePolicy> rejectedValuePolicy
+	) {
+		this.objectMapper = objectMapper;
+		this.validator = validator;
+		this.properties = properties;
+		this.ingressProperties = ingressProperties;
+		this.validationErrorMapper = new ValidationErrorMapper(rejectedValuePolicy.getIfAvailable(() -> RejectedValuePolicy.DEFAULT));
+	}
+
+	@Override
+	public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+		resolvers.add(new StreamingBodyArgumentResolver(objectMapper, validator, validationErrorMapper, properties.errorBudget(), ingressProperties.maxElements()));
+
+		// NDJSON 벌크 요청은 본문 전체 대신 한 줄에 요청 크기 제한을 적용한다
+		long maxBytes = ingressProperties.maxBytes().toBytes();
+		int maxLineBytes = maxBytes > 0 ? (int)Math.min(maxBytes, Integer.MAX_VALUE - 8) : Integer.MAX_VALUE - 8;
+		resolvers.add(new BulkValidationArgumentResolver(objectMapper, validator, validationErrorMapper, maxLineBytes));
+	}
+}
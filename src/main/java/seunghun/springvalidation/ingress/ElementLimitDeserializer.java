@@ -0,0 +1,76 @@
+package seunghun.springvalidation.ingress;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+
+import seunghun.springvalidation.handle.JsonPaths;
+
+/**
+ * 컬렉션/배열 역직렬화기에 요소 수를 세는 파서를 넘겨, 제한을 넘는 요소의 첫 토큰에서 바로 멈춘다.
+ * 요소 타입(객체, 문자열, 숫자)과 관계없이 적용되며 제한을 넘는 요소는 역직렬화하지 않으므로 큰 배열 전체가 힙에 올라오지 않는다.
+ */
+class ElementLimitDeserializer extends DelegatingDeserializer {
+	private final int maxElements;
+
+	ElementLimitDeserializer(JsonDeserializer<?> delegate, int maxElements) {
+		super(delegate);
+		this.maxElements = maxElements;
+	}
+
+	@Override
+	protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+		return new ElementLimitDeserializer(newDelegatee, maxElements);
+	}
+
+	@Override
+	public Object deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+		return super.deserialize(limit(parser), context);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public Object deserialize(JsonParser parser, DeserializationContext context, Object intoValue) throws IOException {
+		return ((JsonDeserializer<Object>)_delegatee).deserialize(limit(parser), context, intoValue);
+	}
+
+	// 단일 값을 배열로 받는 경우처럼 배열이 아니면 그대로 읽는다
+	private JsonParser limit(JsonParser parser) {
+		return parser.isExpectedStartArrayToken() ? new ElementCountingParser(parser, maxElements) : parser;
+	}
+
+	private static class ElementCountingParser extends JsonParserDelegate {
+		private final JsonStreamContext array;
+		private final int maxElements;
+
+		ElementCountingParser(JsonParser parser, int maxElements) {
+			super(parser);
+			// START_ARRAY를 읽은 뒤이므로 현재 컨텍스트가 이 배열이다
+			this.array = parser.getParsingContext();
+			this.maxElements = maxElements;
+		}
+
+		@Override
+		public JsonToken nextToken() throws IOException {
+			JsonToken token = super.nextToken();
+			if (array.getCurrentIndex() >= maxElements) {
+				String field = JsonPaths.of(array.getParent());
+				throw IngressLimitExceededException.elements(field.isEmpty() ? "body" : field, maxElements);
+			}
+
+			return token;
+		}
+
+		@Override
+		public JsonToken nextValue() throws IOException {
+			JsonToken token = nextToken();
+			return token == JsonToken.FIELD_NAME ? nextToken() : token;
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package seunghun.springvalidation.ingress;
+
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.type.ArrayType;
+import com.fasterxml.jackson.databind.type.CollectionLikeType;
+import com.fasterxml.jackson.databind.type.CollectionType;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(IngressProperties.class)
+public class IngressGuardConfig implements WebMvcConfigurer {
+	private final IngressProperties properties;
+
+	public IngressGuardConfig(IngressProperties properties) {
+		this.properties = properties;
+	}
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		if (properties.maxBytes().toBytes() > 0) {
+			registry.addInterceptor(new IngressGuardInterceptor(properties.maxBytes().toBytes()));
+		}
+	}
+
+	// 깊이와 본문 크기는 Jackson StreamReadConstraints로, 배열 요소 수는 컬렉션/배열 역직렬화기 앞에서 검사한다.
+	// 공유 ObjectMapper에 적용되므로 이 ObjectMapper로 읽는 모든 JSON 본문이 대상이다
+	@Bean
+	Jackson2ObjectMapperBuilderCustomizer ingressGuardCustomizer() {
+		return builder -> builder.postConfigurer(objectMapper -> {
+			StreamReadConstraints.Builder constraints = objectMapper.getFactory().streamReadConstraints().rebuild();
+			if (properties.maxDepth() > 0) {
+				constraints.maxNestingDepth(properties.maxDepth());
+			}
+
+			if (properties.maxBytes().toBytes() > 0) {
+				constraints.maxDocumentLength(properties.maxBytes().toBytes());
+			}
+
+			objectMapper.getFactory().setStreamReadConstraints(constraints.build());
+
+			if (properties.maxElements() > 0) {
+				objectMapper.registerModule(elementLimitModule(properties.maxElements()));
+			}
+		});
+	}
+
+	private static SimpleModule elementLimitModule(int maxElements) {
+		SimpleModule module = new SimpleModule("IngressElementLimit");
+		module.setDeserializerModifier(new BeanDeserializerModifier() {
+			@Override
+			public JsonDeserializer<?> modifyCollectionDeserializer(DeserializationConfig config, CollectionType type, BeanDescription beanDescription, JsonDeserializer<?> deserializer) {
+				return new ElementLimitDeserializer(deserializer, maxElements);
+			}
+
+			@Override
+			public JsonDeserializer<?> modifyCollectionLikeDeserializer(DeserializationConfig config, CollectionLikeType type, BeanDescription beanDescription, JsonDeserializer<?> deserializer) {
+				return new ElementLimitDeserializer(deserializer, maxElements);
+			}
+
+			@Override
+			public JsonDeserializer<?> modifyArrayDeserializer(DeserializationConfig config, ArrayType type, BeanDescription beanDescription, JsonDeserializer<?> deserializer) {
+				return new ElementLimitDeserializer(deserializer, maxElements);
+			}
+		});
+
+		return module;
+	}
+}
@@ -0,0 +1,39 @@
+package seunghun.springvalidation.ingress;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Content-Length가 제한을 넘으면 본문을 읽기 전에 거절한다.
+ * chunked 요청처럼 길이를 모르는 본문은 Jackson의 maxDocumentLength가 읽는 중에 막는다.
+ * NDJSON 벌크 요청은 한 줄씩 읽으므로 본문 전체가 아니라 줄 단위로 제한한다.
+ */
+class IngressGuardInterceptor implements HandlerInterceptor {
+	private final long maxBytes;
+
+	IngressGuardInterceptor(long maxBytes) {
+		this.maxBytes = maxBytes;
+	}
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (isNdjson(request)) {
+			return true;
+		}
+
+		long contentLength = request.getContentLengthLong();
+		if (contentLength > maxBytes) {
+			throw IngressLimitExceededException.bytes(contentLength, maxBytes);
+		}
+
+		return true;
+	}
+
+	private static boolean isNdjson(HttpServletRequest request) {
+		String contentType = request.getContentType();
+		return contentType != null && contentType.startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+	}
+}
@@ -0,0 +1,28 @@
+package seunghun.springvalidation.ingress;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import seunghun.springvalidation.handle.ErrorDetail;
+
+@ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+public class IngressLimitExceededException extends RuntimeException {
+	private final ErrorDetail error;
+
+	public IngressLimitExceededException(ErrorDetail error) {
+		super(error.field() + ": " + error.message());
+		this.error = error;
+	}
+
+	public static IngressLimitExceededException elements(String field, int maxElements) {
+		return new IngressLimitExceededException(new ErrorDetail(field, null, "요소는 최대 " + maxElements + "개까지 허용됩니다", "MaxElements"));
+	}
+
+	public static IngressLimitExceededException bytes(long contentLength, long maxBytes) {
+		return new IngressLimitExceededException(new ErrorDetail("body", contentLength, "요청 본문은 최대 " + maxBytes + "바이트까지 허용됩니다", "MaxBytes"));
+	}
+
+	public ErrorDetail getError() {
+		return error;
+	}
+}
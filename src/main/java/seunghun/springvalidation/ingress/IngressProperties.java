@@ -0,0 +1,20 @@
+package seunghun.springvalidation.ingress;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 요청 본문을 읽는 동안 애플리케이션 전체에 적용하는 제한. 0 이하이면 해당 제한을 적용하지 않는다.
+ *
+ * @param maxElements JSON 배열 하나에 허용하는 요소 수(객체, 스칼라 모두)
+ * @param maxDepth JSON 중첩 깊이
+ * @param maxBytes 요청 본문 크기
+ */
+@ConfigurationProperties("validation.ingress")
+public record IngressProperties(
+	@DefaultValue("10000") int maxElements,
+	@DefaultValue("64") int maxDepth,
+	@DefaultValue("1MB") DataSize maxBytes
+) {
+}
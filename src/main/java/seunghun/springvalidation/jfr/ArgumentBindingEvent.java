@@ -0,0 +1,37 @@
+package seunghun.springvalidation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import org.springframework.web.method.HandlerMethod;
+
+@Name(ArgumentBindingEvent.NAME)
+@Label("Argument Binding")
+@Category({"Spring Validation"})
+@Description("Resolving handler method arguments, including body reading and @Valid binding")
+@StackTrace(false)
+@Threshold("1 ms")
+public class ArgumentBindingEvent extends Event {
+	public static final String NAME = "seunghun.validation.ArgumentBinding";
+
+	@Label("Handler")
+	String handler;
+
+	@Label("Parameter Count")
+	int parameterCount;
+
+	// 핸들러 이름은 요청마다 새 문자열을 만들므로 기록 대상일 때만 만든다
+	void finish(HandlerMethod handlerMethod) {
+		end();
+		if (shouldCommit()) {
+			this.handler = handlerMethod.getShortLogMessage();
+			this.parameterCount = handlerMethod.getMethodParameters().length;
+			commit();
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package seunghun.springvalidation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name(ConstraintValidationEvent.NAME)
+@Label("Constraint Validation")
+@Category({"Spring Validation"})
+@Description("Evaluating constraints of a bean, or of method parameters or return value")
+@StackTrace(false)
+@Threshold("1 ms")
+public class ConstraintValidationEvent extends Event {
+	public static final String NAME = "seunghun.validation.ConstraintValidation";
+
+	@Label("Target Type")
+	@Description("Validated DTO type, or the declaring class for method validation")
+	Class<?> targetType;
+
+	@Label("Kind")
+	@Description("bean, parameters or returnValue")
+	String kind;
+
+	@Label("Violation Count")
+	int violationCount;
+
+	/**
+	 * 측정을 끝내고, 기록 대상일 때만 필드를 채워 커밋한다
+	 */
+	public void finish(Class<?> targetType, String kind, int violationCount) {
+		end();
+		if (shouldCommit()) {
+			this.targetType = targetType;
+			this.kind = kind;
+			this.violationCount = violationCount;
+			commit();
+		}
+	}
+}
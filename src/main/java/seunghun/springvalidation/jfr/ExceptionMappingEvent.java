@@ -0,0 +1,42 @@
+package seunghun.springvalidation.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import org.springframework.web.method.HandlerMethod;
+
+@Name(ExceptionMappingEvent.NAME)
+@Label("Exception Mapping")
+@Category({"Spring Validation"})
+@Description("Mapping an exception to an error response through an @ExceptionHandler such as GlobalExceptionHandler")
+@StackTrace(false)
+@Threshold("1 ms")
+public class ExceptionMappingEvent extends Event {
+	public static final String NAME = "seunghun.validation.ExceptionMapping";
+
+	@Label("Exception Type")
+	Class<?> exceptionType;
+
+	@Label("Handler")
+	@Description("Handler method that raised the exception")
+	String handler;
+
+	@Label("Status")
+	int status;
+
+	// 핸들러 이름은 요청마다 새 문자열을 만들므로 기록 대상일 때만 만든다
+	void finish(Class<?> exceptionType, HandlerMethod handlerMethod, int status) {
+		end();
+		if (shouldCommit()) {
+			this.exceptionType = exceptionType;
+			this.handler = handlerMethod != null ? handlerMethod.getShortLogMessage() : null;
+			this.status = status;
+			commit();
+		}
+	}
+}
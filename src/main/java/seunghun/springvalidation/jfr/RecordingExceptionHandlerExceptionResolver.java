@@ -0,0 +1,31 @@
+package seunghun.springvalidation.jfr;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.mvc.method.annotation.ExceptionHandlerExceptionResolver;
+
+/**
+ * {@code @ExceptionHandler}가 예외를 처리한 구간을 {@link ExceptionMappingEvent}로 기록한다.
+ * 처리할 핸들러가 없어 다음 resolver로 넘어가는 경우는 기록하지 않는다.
+ */
+public class RecordingExceptionHandlerExceptionResolver extends ExceptionHandlerExceptionResolver {
+	@Override
+	protected ModelAndView doResolveHandlerMethodException(
+		HttpServletRequest request,
+		HttpServletResponse response,
+		HandlerMethod handlerMethod,
+		Exception exception
+	) {
+		ExceptionMappingEvent event = new ExceptionMappingEvent();
+		event.begin();
+		ModelAndView modelAndView = super.doResolveHandlerMethodException(request, response, handlerMethod, exception);
+		if (modelAndView != null) {
+			event.finish(exception.getClass(), handlerMethod, response.getStatus());
+		}
+
+		return modelAndView;
+	}
+}
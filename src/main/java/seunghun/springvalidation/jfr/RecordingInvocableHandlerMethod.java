@@ -0,0 +1,26 @@
+package seunghun.springvalidation.jfr;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.ServletInvocableHandlerMethod;
+
+/**
+ * 인자 해석 구간을 {@link ArgumentBindingEvent}로 기록한다
+ */
+public class RecordingInvocableHandlerMethod extends ServletInvocableHandlerMethod {
+	public RecordingInvocableHandlerMethod(HandlerMethod handlerMethod) {
+		super(handlerMethod);
+	}
+
+	@Override
+	protected Object[] getMethodArgumentValues(NativeWebRequest request, ModelAndViewContainer mavContainer, Object... providedArgs) throws Exception {
+		ArgumentBindingEvent event = new ArgumentBindingEvent();
+		event.begin();
+		try {
+			return super.getMethodArgumentValues(request, mavContainer, providedArgs);
+		} finally {
+			event.finish(this);
+		}
+	}
+}
@@ -0,0 +1,159 @@
+package seunghun.springvalidation.message;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.metadata.ConstraintDescriptor;
+
+import org.hibernate.validator.messageinterpolation.HibernateMessageInterpolatorContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 제약조건 디스크립터와 Locale 기준으로 보간 결과를 캐싱하는 MessageInterpolator.
+ * <ul>
+ *     <li>{@code {value}}, {@code {jakarta...message}} 같은 메시지 파라미터는 디스크립터와 Locale로 결정되므로,
+ *     파라미터를 해석한 결과에 {@code ${}} EL이 남지 않으면 최초 한 번만 보간하고 계속 재사용한다.</li>
+ *     <li>EL이 남는 템플릿은 검증 값에 의존할 수 있으므로 불변 값일 때만 값까지 키에 넣어 크기 제한 LRU 캐시에 보관한다.</li>
+ * </ul>
+ * Locale은 클라이언트가 보낸 Accept-Language에서 오므로 두 캐시 모두 크기 제한 LRU로 둔다.
+ * Accept-Language는 요청당 한 번만 해석해 request attribute에 보관한다.
+ */
+public class CachingMessageInterpolator implements MessageInterpolator {
+	static final String LOCALE_ATTRIBUTE = CachingMessageInterpolator.class.getName() + ".LOCALE";
+
+	// 값을 읽는 템플릿임을 표시한다. 같은 LRU에 두어 Locale별 표시도 크기 제한을 받는다
+	private static final String DYNAMIC = new String("dynamic");
+
+	private final MessageInterpolator delegate;
+	private final int maxStaticEntries;
+	private final int maxDynamicEntries;
+	private final Map<Key, String> staticMessages;
+	private final Map<Key, String> dynamicMessages;
+
+	public CachingMessageInterpolator(MessageInterpolator delegate, int maxStaticEntries, int maxDynamicEntries) {
+		this.delegate = delegate;
+		this.maxStaticEntries = maxStaticEntries;
+		this.maxDynamicEntries = maxDynamicEntries;
+		this.staticMessages = lruMap(maxStaticEntries);
+		this.dynamicMessages = lruMap(maxDynamicEntries);
+	}
+
+	@Override
+	public String interpolate(String messageTemplate, Context context) {
+		return interpolate(messageTemplate, context, resolveLocale());
+	}
+
+	@Override
+	public String interpolate(String messageTemplate, Context context, Locale locale) {
+		// addMessageParameter/addExpressionVariable로 넘긴 값은 위반마다 다를 수 있다
+		if (hasCustomParameters(context)) {
+			return delegate.interpolate(messageTemplate, context, locale);
+		}
+
+		ConstraintDescriptor<?> descriptor = context.getConstraintDescriptor();
+		Key templateKey = new Key(descriptor, messageTemplate, locale, null);
+		String message = staticMessages.get(templateKey);
+		if (message != null && message != DYNAMIC) {
+			return message;
+		}
+
+		ValueTrackingContext trackingContext = messageTemplate.contains("${") || message == DYNAMIC || maxStaticEntries <= 0
+			? null
+			: ValueTrackingContext.of(context);
+		message = null;
+		if (trackingContext != null) {
+			// EL이 평가될 때만 검증 값을 읽으므로, 값을 읽지 않았다면 결과는 디스크립터와 Locale로만 결정된다
+			message = delegate.interpolate(messageTemplate, trackingContext, locale);
+			// computeIfAbsent는 보간(번들 로딩 포함) 동안 모니터를 잡고 있어 가상 스레드가 캐리어에 고정될 수 있다
+			if (!trackingContext.isValueAccessed()) {
+				staticMessages.put(templateKey, message);
+				return message;
+			}
+
+			staticMessages.put(templateKey, DYNAMIC);
+		}
+
+		Object value = context.getValidatedValue();
+		if (!isCacheableValue(value) || maxDynamicEntries <= 0) {
+			return message != null ? message : delegate.interpolate(messageTemplate, context, locale);
+		}
+
+		Key key = new Key(descriptor, messageTemplate, locale, value);
+		if (message == null) {
+			message = dynamicMessages.get(key);
+			if (message != null) {
+				return message;
+			}
+
+			message = delegate.interpolate(messageTemplate, context, locale);
+		}
+
+		dynamicMessages.put(key, message);
+		return message;
+	}
+
+	// 값을 읽는 템플릿 표시는 빼고 센다
+	int staticSize() {
+		synchronized (staticMessages) {
+			return (int)staticMessages.values().stream().filter(message -> message != DYNAMIC).count();
+		}
+	}
+
+	int dynamicSize() {
+		return dynamicMessages.size();
+	}
+
+	private static Map<Key, String> lruMap(int maxEntries) {
+		return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, String> eldest) {
+				return size() > maxEntries;
+			}
+		});
+	}
+
+	private static Locale resolveLocale() {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (attributes == null) {
+			return LocaleContextHolder.getLocale();
+		}
+
+		Locale locale = (Locale)attributes.getAttribute(LOCALE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+		if (locale == null) {
+			locale = LocaleContextHolder.getLocale();
+			attributes.setAttribute(LOCALE_ATTRIBUTE, locale, RequestAttributes.SCOPE_REQUEST);
+		}
+
+		return locale;
+	}
+
+	private static boolean hasCustomParameters(Context context) {
+		if (context instanceof HibernateMessageInterpolatorContext hibernateContext) {
+			return !hibernateContext.getMessageParameters().isEmpty() || !hibernateContext.getExpressionVariables().isEmpty();
+		}
+
+		return false;
+	}
+
+	private static boolean isCacheableValue(Object value) {
+		return value == null
+			|| value instanceof String
+			|| value instanceof Number
+			|| value instanceof Boolean
+			|| value instanceof Character
+			|| value instanceof Enum<?>;
+	}
+
+	private record Key(
+		ConstraintDescriptor<?> descriptor,
+		String template,
+		Locale locale,
+		Object value
+	) {
+	}
+}
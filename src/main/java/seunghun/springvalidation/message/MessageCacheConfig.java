@@ -0,0 +1,22 @@
+package seunghun.springvalidation.message;
+
+import jakarta.validation.spi.ConfigurationState;
+
+import org.springframework.boot.autoconfigure.validation.ValidationConfigurationCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(MessageCacheProperties.class)
+public class MessageCacheConfig {
+	// 기본 Validator의 LocaleContextMessageInterpolator를 감싸므로 MessageSource 기반 메시지도 그대로 동작한다
+	@Bean
+	static ValidationConfigurationCustomizer cachingMessageInterpolatorCustomizer(MessageCacheProperties properties) {
+		return configuration -> {
+			if (properties.enabled() && configuration instanceof ConfigurationState state) {
+				configuration.messageInterpolator(new CachingMessageInterpolator(state.getMessageInterpolator(), properties.maxStaticEntries(), properties.maxDynamicEntries()));
+			}
+		};
+	}
+}
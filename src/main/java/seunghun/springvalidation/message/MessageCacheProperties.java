@@ -0,0 +1,16 @@
+package seunghun.springvalidation.message;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param maxStaticEntries EL이 없는 템플릿의 (디스크립터, Locale)별 LRU 캐시 최대 크기. 0 이하이면 캐싱하지 않는다
+ * @param maxDynamicEntries EL이 있는 템플릿의 LRU 캐시 최대 크기. 0 이하이면 해당 템플릿은 캐싱하지 않는다
+ */
+@ConfigurationProperties("validation.message-cache")
+public record MessageCacheProperties(
+	@DefaultValue("true") boolean enabled,
+	@DefaultValue("10000") int maxStaticEntries,
+	@DefaultValue("1000") int maxDynamicEntries
+) {
+}
@@ -0,0 +1,77 @@
+package seunghun.springvalidation.message;
+
+import java.util.Map;
+
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.Path;
+import jakarta.validation.metadata.ConstraintDescriptor;
+
+import org.hibernate.validator.messageinterpolation.ExpressionLanguageFeatureLevel;
+import org.hibernate.validator.messageinterpolation.HibernateMessageInterpolatorContext;
+
+/**
+ * 보간 중 검증 값을 읽었는지 기록하는 Context.
+ * Hibernate Validator는 EL 식을 평가할 때만 검증 값을 읽으므로, 값을 읽지 않은 보간 결과는 값과 무관하다.
+ */
+class ValueTrackingContext implements HibernateMessageInterpolatorContext {
+	private final HibernateMessageInterpolatorContext delegate;
+	private boolean valueAccessed;
+
+	private ValueTrackingContext(HibernateMessageInterpolatorContext delegate) {
+		this.delegate = delegate;
+	}
+
+	// EL 기능 수준 등 Hibernate 전용 정보를 그대로 넘겨야 하므로 Hibernate 컨텍스트만 감싼다
+	static ValueTrackingContext of(MessageInterpolator.Context context) {
+		return context instanceof HibernateMessageInterpolatorContext hibernateContext ? new ValueTrackingContext(hibernateContext) : null;
+	}
+
+	boolean isValueAccessed() {
+		return valueAccessed;
+	}
+
+	@Override
+	public ConstraintDescriptor<?> getConstraintDescriptor() {
+		return delegate.getConstraintDescriptor();
+	}
+
+	@Override
+	public Object getValidatedValue() {
+		valueAccessed = true;
+		return delegate.getValidatedValue();
+	}
+
+	@Override
+	public Class<?> getRootBeanType() {
+		return delegate.getRootBeanType();
+	}
+
+	@Override
+	public Map<String, Object> getMessageParameters() {
+		return delegate.getMessageParameters();
+	}
+
+	@Override
+	public Map<String, Object> getExpressionVariables() {
+		return delegate.getExpressionVariables();
+	}
+
+	@Override
+	public Path getPropertyPath() {
+		return delegate.getPropertyPath();
+	}
+
+	@Override
+	public ExpressionLanguageFeatureLevel getExpressionLanguageFeatureLevel() {
+		return delegate.getExpressionLanguageFeatureLevel();
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> type) {
+		if (type.isInstance(this)) {
+			return type.cast(this);
+		}
+
+		return delegate.unwrap(type);
+	}
+}
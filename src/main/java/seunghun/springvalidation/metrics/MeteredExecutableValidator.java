@@ -0,0 +1,55 @@
+package seunghun.springvalidation.metrics;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Set;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.executable.ExecutableValidator;
+
+import seunghun.springvalidation.jfr.ConstraintValidationEvent;
+
+/**
+ * 메서드 파라미터 검증 시간과 위반을 {@link ValidationMetricsSupport}와 {@link ConstraintValidationEvent}에 기록한다.
+ */
+public class MeteredExecutableValidator implements ExecutableValidator {
+	private final ExecutableValidator delegate;
+
+	public MeteredExecutableValidator(ExecutableValidator delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public <T> Set<ConstraintViolation<T>> validateParameters(T object, Method method, Object[] parameterValues, Class<?>... groups) {
+		ConstraintValidationEvent event = new ConstraintValidationEvent();
+		event.begin();
+		long start = System.nanoTime();
+		Set<ConstraintViolation<T>> violations = delegate.validateParameters(object, method, parameterValues, groups);
+		ValidationMetricsSupport.recordTime(start);
+		ValidationMetricsSupport.recordViolations(violations);
+		event.finish(method.getDeclaringClass(), "parameters", violations.size());
+		return violations;
+	}
+
+	@Override
+	public <T> Set<ConstraintViolation<T>> validateReturnValue(T object, Method method, Object returnValue, Class<?>... groups) {
+		ConstraintValidationEvent event = new ConstraintValidationEvent();
+		event.begin();
+		long start = System.nanoTime();
+		Set<ConstraintViolation<T>> violations = delegate.validateReturnValue(object, method, returnValue, groups);
+		ValidationMetricsSupport.recordTime(start);
+		ValidationMetricsSupport.recordViolations(violations);
+		event.finish(method.getDeclaringClass(), "returnValue", violations.size());
+		return violations;
+	}
+
+	@Override
+	public <T> Set<ConstraintViolation<T>> validateConstructorParameters(Constructor<? extends T> constructor, Object[] parameterValues, Class<?>... groups) {
+		return delegate.validateConstructorParameters(constructor, parameterValues, groups);
+	}
+
+	@Override
+	public <T> Set<ConstraintViolation<T>> validateConstructorReturnValue(Constructor<? extends T> constructor, T createdObject, Class<?>... groups) {
+		return delegate.validateConstructorReturnValue(constructor, createdObject, groups);
+	}
+}
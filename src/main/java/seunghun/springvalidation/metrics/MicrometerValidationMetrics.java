@@ -0,0 +1,53 @@
+package seunghun.springvalidation.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * <ul>
+ *     <li>{@code validation.duration}: uri, outcome(pass/fail) 태그의 히스토그램 타이머. outcome별 count로 통과/실패 비율을 본다.</li>
+ *     <li>{@code validation.violations}: uri, field, constraint 태그의 카운터</li>
+ * </ul>
+ */
+public class MicrometerValidationMetrics implements ValidationMetrics {
+	private final MeterRegistry registry;
+	private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+	private final Map<ViolationKey, Counter> counters = new ConcurrentHashMap<>();
+
+	public MicrometerValidationMetrics(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	@Override
+	public void recordValidation(String endpoint, long nanos, boolean passed) {
+		timers.computeIfAbsent(new TimerKey(endpoint, passed), key -> Timer.builder("validation.duration")
+				.description("요청당 검증 소요 시간")
+				.tag("uri", key.endpoint())
+				.tag("outcome", key.passed() ? "pass" : "fail")
+				.publishPercentileHistogram()
+				.register(registry))
+			.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public void recordViolation(String endpoint, String field, String constraint) {
+		counters.computeIfAbsent(new ViolationKey(endpoint, field, constraint), key -> Counter.builder("validation.violations")
+				.description("필드/제약조건별 위반 횟수")
+				.tag("uri", key.endpoint())
+				.tag("field", key.field())
+				.tag("constraint", key.constraint())
+				.register(registry))
+			.increment();
+	}
+
+	private record TimerKey(String endpoint, boolean passed) {
+	}
+
+	private record ViolationKey(String endpoint, String field, String constraint) {
+	}
+}
@@ -0,0 +1,27 @@
+package seunghun.springvalidation.metrics;
+
+/**
+ * 검증 지표를 기록하는 확장 지점. 빈으로 등록하면 기본 Micrometer 구현 대신 사용된다.
+ */
+public interface ValidationMetrics {
+	ValidationMetrics NOOP = new ValidationMetrics() {
+		@Override
+		public void recordValidation(String endpoint, long nanos, boolean passed) {
+		}
+
+		@Override
+		public void recordViolation(String endpoint, String field, String constraint) {
+		}
+	};
+
+	/**
+	 * 요청 하나에서 검증에 사용한 시간과 통과 여부
+	 */
+	void recordValidation(String endpoint, long nanos, boolean passed);
+
+	/**
+	 * @param field {@code UserDto.name}처럼 위반이 발생한 타입과 프로퍼티
+	 * @param constraint {@code NotBlank}처럼 제약조건 어노테이션의 단순 이름
+	 */
+	void recordViolation(String endpoint, String field, String constraint);
+}
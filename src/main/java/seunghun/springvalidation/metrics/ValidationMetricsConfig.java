@@ -0,0 +1,29 @@
+package seunghun.springvalidation.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration(proxyBeanMethods = false)
+public class ValidationMetricsConfig implements WebMvcConfigurer {
+	private final ValidationMetrics metrics;
+
+	// 직접 등록한 ValidationMetrics 빈 > MeterRegistry 바인딩 > NOOP 순으로 선택한다
+	public ValidationMetricsConfig(ObjectProvider<ValidationMetrics> customMetrics, ObjectProvider<MeterRegistry> meterRegistry) {
+		ValidationMetrics metrics = customMetrics.getIfAvailable();
+		if (metrics == null) {
+			MeterRegistry registry = meterRegistry.getIfAvailable();
+			metrics = registry != null ? new MicrometerValidationMetrics(registry) : ValidationMetrics.NOOP;
+		}
+
+		this.metrics = metrics;
+	}
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(new ValidationMetricsInterceptor(metrics));
+	}
+}
@@ -0,0 +1,33 @@
+package seunghun.springvalidation.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * GlobalExceptionHandler까지 처리된 뒤 요청 단위로 검증 지표를 기록한다.
+ * 검증이 한 번도 실행되지 않은 요청은 기록하지 않는다.
+ */
+class ValidationMetricsInterceptor implements HandlerInterceptor {
+	private final ValidationMetrics metrics;
+
+	ValidationMetricsInterceptor(ValidationMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+		if (!(request.getAttribute(ValidationMetricsSupport.SAMPLE_ATTRIBUTE) instanceof ValidationSample sample)) {
+			return;
+		}
+
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		String endpoint = pattern != null ? pattern.toString() : "UNKNOWN";
+		metrics.recordValidation(endpoint, sample.getNanos(), sample.getViolations().isEmpty());
+		for (ValidationSample.Violation violation : sample.getViolations()) {
+			metrics.recordViolation(endpoint, violation.field(), violation.constraint());
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package seunghun.springvalidation.metrics;
+
+import java.util.Collection;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 검증기에서 시간과 위반을 요청 단위로 모으고, {@link ValidationMetricsInterceptor}가 요청 종료 시 한 번에 기록한다.
+ * 요청 밖(테스트, 배치)에서 호출되면 아무것도 하지 않는다.
+ */
+public final class ValidationMetricsSupport {
+	static final String SAMPLE_ATTRIBUTE = ValidationMetricsSupport.class.getName() + ".SAMPLE";
+
+	private ValidationMetricsSupport() {
+	}
+
+	public static void recordTime(long startNanos) {
+		ValidationSample sample = currentSample();
+		if (sample != null) {
+			sample.addNanos(System.nanoTime() - startNanos);
+		}
+	}
+
+	public static void recordViolations(Collection<? extends ConstraintViolation<?>> violations) {
+		if (violations.isEmpty()) {
+			return;
+		}
+
+		ValidationSample sample = currentSample();
+		if (sample == null) {
+			return;
+		}
+
+		for (ConstraintViolation<?> violation : violations) {
+			sample.addViolation(getFieldName(violation), violation.getConstraintDescriptor().getAnnotation().annotationType().getSimpleName());
+		}
+	}
+
+	static String getFieldName(ConstraintViolation<?> violation) {
+		String property = null;
+		for (Path.Node node : violation.getPropertyPath()) {
+			property = node.getName();
+		}
+
+		Object leafBean = violation.getLeafBean();
+		String type = leafBean != null ? leafBean.getClass().getSimpleName() : violation.getRootBeanClass().getSimpleName();
+		return property == null ? type : type + "." + property;
+	}
+
+	private static ValidationSample currentSample() {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (attributes == null) {
+			return null;
+		}
+
+		ValidationSample sample = (ValidationSample)attributes.getAttribute(SAMPLE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+		if (sample == null) {
+			sample = new ValidationSample();
+			attributes.setAttribute(SAMPLE_ATTRIBUTE, sample, RequestAttributes.SCOPE_REQUEST);
+		}
+
+		return sample;
+	}
+}
@@ -0,0 +1,31 @@
+package seunghun.springvalidation.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 하나에서 누적된 검증 시간과 위반 목록
+ */
+class ValidationSample {
+	private long nanos;
+	private final List<Violation> violations = new ArrayList<>();
+
+	void addNanos(long nanos) {
+		this.nanos += nanos;
+	}
+
+	void addViolation(String field, String constraint) {
+		violations.add(new Violation(field, constraint));
+	}
+
+	long getNanos() {
+		return nanos;
+	}
+
+	List<Violation> getViolations() {
+		return violations;
+	}
+
+	record Violation(String field, String constraint) {
+	}
+}
@@ -0,0 +1,17 @@
+package seunghun.springvalidation.parsetime;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@code validation.parse-time.enabled=true}일 때 이 record는 Jackson 역직렬화 중에 생성된 검증기로 검사된다.
+ * 생성된 검증기가 없는 record(그룹, 지원하지 않는 제약조건)에는 효과가 없다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ParseTimeValidated {
+}
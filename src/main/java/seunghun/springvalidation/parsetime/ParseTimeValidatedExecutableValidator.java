@@ -0,0 +1,85 @@
+package seunghun.springvalidation.parsetime;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.executable.ExecutableValidator;
+
+/**
+ * 역직렬화 중 이미 검증을 통과한 인자는 메서드 파라미터 검증에서 다시 cascade하지 않는다.
+ * 파라미터 자체에 제약조건이 없는 인자만 null로 바꿔 넘기므로 나머지 파라미터 검증 결과는 같다.
+ */
+public class ParseTimeValidatedExecutableValidator implements ExecutableValidator {
+	private final ExecutableValidator delegate;
+	private final Map<Method, boolean[]> cascadeOnlyParameters = new ConcurrentHashMap<>();
+
+	public ParseTimeValidatedExecutableValidator(ExecutableValidator delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public <T> Set<ConstraintViolation<T>> validateParameters(T object, Method method, Object[] parameterValues, Class<?>... groups) {
+		return delegate.validateParameters(object, method, withoutValidatedArguments(method, parameterValues), groups);
+	}
+
+	@Override
+	public <T> Set<ConstraintViolation<T>> validateReturnValue(T object, Method method, Object returnValue, Class<?>... groups) {
+		return delegate.validateReturnValue(object, method, returnValue, groups);
+	}
+
+	@Override
+	public <T> Set<ConstraintViolation<T>> validateConstructorParameters(Constructor<? extends T> constructor, Object[] parameterValues, Class<?>... groups) {
+		return delegate.validateConstructorParameters(constructor, parameterValues, groups);
+	}
+
+	@Override
+	public <T> Set<ConstraintViolation<T>> validateConstructorReturnValue(Constructor<? extends T> constructor, T createdObject, Class<?>... groups) {
+		return delegate.validateConstructorReturnValue(constructor, createdObject, groups);
+	}
+
+	private Object[] withoutValidatedArguments(Method method, Object[] parameterValues) {
+		Object[] arguments = parameterValues;
+		boolean[] cascadeOnly = null;
+		for (int i = 0; i < parameterValues.length; i++) {
+			if (parameterValues[i] == null || !ParseTimeValidationSupport.isValidated(parameterValues[i])) {
+				continue;
+			}
+
+			if (cascadeOnly == null) {
+				cascadeOnly = cascadeOnlyParameters.computeIfAbsent(method, ParseTimeValidatedExecutableValidator::cascadeOnly);
+			}
+
+			if (cascadeOnly[i]) {
+				if (arguments == parameterValues) {
+					arguments = parameterValues.clone();
+				}
+
+				arguments[i] = null;
+			}
+		}
+
+		return arguments;
+	}
+
+	private static boolean[] cascadeOnly(Method method) {
+		Annotation[][] annotations = method.getParameterAnnotations();
+		boolean[] cascadeOnly = new boolean[annotations.length];
+		for (int i = 0; i < annotations.length; i++) {
+			cascadeOnly[i] = true;
+			for (Annotation annotation : annotations[i]) {
+				if (annotation.annotationType().isAnnotationPresent(Constraint.class)) {
+					cascadeOnly[i] = false;
+					break;
+				}
+			}
+		}
+
+		return cascadeOnly;
+	}
+}
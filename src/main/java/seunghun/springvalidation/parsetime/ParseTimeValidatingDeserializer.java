@@ -0,0 +1,76 @@
+package seunghun.springvalidation.parsetime;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+
+import seunghun.springvalidation.generated.GeneratedValidators;
+import seunghun.springvalidation.handle.ErrorDetail;
+import seunghun.springvalidation.handle.JsonPaths;
+import seunghun.springvalidation.handle.ValidationErrorMapper;
+
+/**
+ * record가 역직렬화되는 즉시 생성된 검증기로 검사한다.
+ * 위반이 있으면 나머지 본문을 읽지 않고 Hibernate Validator 메시지로 {@link ParseTimeValidationException}을 던진다.
+ * 필드 경로는 파서 위치(예: {@code user.name}, {@code users[1].age})를 앞에 붙여 BindingResult와 같은 형식을 만든다.
+ */
+class ParseTimeValidatingDeserializer extends DelegatingDeserializer {
+	private final GeneratedValidators generatedValidators;
+	private final Validator validator;
+	private final ValidationErrorMapper validationErrorMapper;
+
+	ParseTimeValidatingDeserializer(
+		JsonDeserializer<?> delegate,
+		GeneratedValidators generatedValidators,
+		Validator validator,
+		ValidationErrorMapper validationErrorMapper
+	) {
+		super(delegate);
+		this.generatedValidators = generatedValidators;
+		this.validator = validator;
+		this.validationErrorMapper = validationErrorMapper;
+	}
+
+	@Override
+	protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+		return new ParseTimeValidatingDeserializer(newDelegatee, generatedValidators, validator, validationErrorMapper);
+	}
+
+	@Override
+	public Object deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+		Object value = super.deserialize(parser, context);
+		if (value == null || ParseTimeValidationSupport.isSuspended()) {
+			return value;
+		}
+
+		if (generatedValidators.isValid(value)) {
+			ParseTimeValidationSupport.markValidated(value);
+			return value;
+		}
+
+		Set<ConstraintViolation<Object>> violations = validator.validate(value);
+		if (violations.isEmpty()) {
+			ParseTimeValidationSupport.markValidated(value);
+			return value;
+		}
+
+		// END_OBJECT 이후이므로 파싱 컨텍스트는 부모를 가리킨다. 루트가 아니면 뒤에 검사하지 못한 값이 남아 있을 수 있다
+		JsonStreamContext parent = parser.getParsingContext();
+		String parentPath = JsonPaths.of(parent);
+		String prefix = parentPath.isEmpty() ? "" : parentPath + ".";
+		List<ErrorDetail> errors = violations.stream()
+			.map(violation -> validationErrorMapper.toErrorDetail(prefix + violation.getPropertyPath(), violation))
+			.toList();
+
+		throw new ParseTimeValidationException(errors, !parent.inRoot());
+	}
+}
@@ -0,0 +1,55 @@
+package seunghun.springvalidation.parsetime;
+
+import jakarta.validation.Validator;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import seunghun.springvalidation.generated.GeneratedValidators;
+import seunghun.springvalidation.handle.RejectedValuePolicy;
+import seunghun.springvalidation.handle.ValidationErrorMapper;
+
+/**
+ * {@code validation.parse-time.enabled=true}이면 {@link ParseTimeValidated} record의 Jackson 역직렬화기를 감싼다.
+ * Boot가 Module 빈을 ObjectMapper에 등록한다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class ParseTimeValidationConfig {
+	@Bean
+	@ConditionalOnProperty("validation.parse-time.enabled")
+	Module parseTimeValidationModule(
+		Validator validator,
+		ObjectProvider<RejectedValuePolicy> rejectedValuePolicy,
+		@Value("${validation.generated.enabled:true}") boolean generatedEnabled
+	) {
+		GeneratedValidators generatedValidators = generatedEnabled
+			? GeneratedValidators.load(getClass().getClassLoader())
+			: GeneratedValidators.empty();
+		ValidationErrorMapper validationErrorMapper = new ValidationErrorMapper(rejectedValuePolicy.getIfAvailable(() -> RejectedValuePolicy.DEFAULT));
+
+		SimpleModule module = new SimpleModule("ParseTimeValidation");
+		module.setDeserializerModifier(new BeanDeserializerModifier() {
+			@Override
+			public JsonDeserializer<?> modifyDeserializer(DeserializationConfig config, BeanDescription beanDescription, JsonDeserializer<?> deserializer) {
+				Class<?> type = beanDescription.getBeanClass();
+				if (type.isAnnotationPresent(ParseTimeValidated.class) && generatedValidators.supports(type)) {
+					return new ParseTimeValidatingDeserializer(deserializer, generatedValidators, validator, validationErrorMapper);
+				}
+
+				return deserializer;
+			}
+		});
+
+		return module;
+	}
+}
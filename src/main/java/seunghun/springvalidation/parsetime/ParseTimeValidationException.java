@@ -0,0 +1,27 @@
+package seunghun.springvalidation.parsetime;
+
+import java.util.List;
+
+import seunghun.springvalidation.handle.ErrorDetail;
+
+/**
+ * @see ParseTimeValidatingDeserializer
+ */
+public class ParseTimeValidationException extends RuntimeException {
+	private final List<ErrorDetail> errors;
+	private final boolean truncated;
+
+	public ParseTimeValidationException(List<ErrorDetail> errors, boolean truncated) {
+		super("Parse-time validation failed with " + errors.size() + " error(s)");
+		this.errors = errors;
+		this.truncated = truncated;
+	}
+
+	public List<ErrorDetail> getErrors() {
+		return errors;
+	}
+
+	public boolean isTruncated() {
+		return truncated;
+	}
+}
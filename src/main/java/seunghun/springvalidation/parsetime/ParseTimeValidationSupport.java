@@ -0,0 +1,75 @@
+package seunghun.springvalidation.parsetime;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 역직렬화 중 이미 검증을 통과한 인스턴스를 요청 단위로 기억해 바인딩 후 검증을 생략한다.
+ */
+public final class ParseTimeValidationSupport {
+	private static final String VALIDATED_ATTRIBUTE = ParseTimeValidationSupport.class.getName() + ".VALIDATED";
+	private static final String SUSPENDED_ATTRIBUTE = ParseTimeValidationSupport.class.getName() + ".SUSPENDED";
+
+	private ParseTimeValidationSupport() {
+	}
+
+	static void markValidated(Object value) {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (attributes == null) {
+			return;
+		}
+
+		@SuppressWarnings("unchecked")
+		Set<Object> validated = (Set<Object>)attributes.getAttribute(VALIDATED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+		if (validated == null) {
+			validated = Collections.newSetFromMap(new IdentityHashMap<>());
+			attributes.setAttribute(VALIDATED_ATTRIBUTE, validated, RequestAttributes.SCOPE_REQUEST);
+		}
+
+		validated.add(value);
+	}
+
+	public static boolean isValidated(Object value) {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		return attributes != null
+			&& attributes.getAttribute(VALIDATED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Set<?> validated
+			&& validated.contains(value);
+	}
+
+	/**
+	 * 지금까지의 기록을 지운다. 한 요청에서 많은 레코드를 차례로 읽을 때 기록이 쌓이지 않게 한다.
+	 */
+	public static void reset() {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (attributes != null) {
+			attributes.removeAttribute(VALIDATED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+		}
+	}
+
+	/**
+	 * 본문의 일부만 검증해야 할 때(PATCH) 역직렬화 중 검증을 끄고 읽는다.
+	 */
+	public static <T> T withoutValidation(Callable<T> reading) throws Exception {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (attributes == null) {
+			return reading.call();
+		}
+
+		attributes.setAttribute(SUSPENDED_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+		try {
+			return reading.call();
+		} finally {
+			attributes.removeAttribute(SUSPENDED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+		}
+	}
+
+	static boolean isSuspended() {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		return attributes != null && attributes.getAttribute(SUSPENDED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null;
+	}
+}
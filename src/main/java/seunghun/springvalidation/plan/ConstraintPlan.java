@@ -0,0 +1,46 @@
+package seunghun.springvalidation.plan;
+
+import java.util.List;
+
+/**
+ * 타입 하나의 프로퍼티별 제약조건 평가 계획
+ *
+ * @param groups 비어 있으면 그룹과 관계없이 선언된 모든 제약조건의 계획이다
+ * @param evaluation 이 그룹으로 요청이 들어왔을 때 검증을 실행하는 방법
+ */
+public record ConstraintPlan(
+	Class<?> type,
+	List<Class<?>> groups,
+	List<PropertyPlan> properties,
+	Evaluation evaluation
+) {
+	public PropertyPlan property(String name) {
+		return properties.stream()
+			.filter(property -> property.property().equals(name))
+			.findFirst()
+			.orElse(null);
+	}
+
+	public List<RemovedConstraint> removed() {
+		return properties.stream()
+			.flatMap(property -> property.removed().stream())
+			.toList();
+	}
+
+	public enum Evaluation {
+		/**
+		 * cascade 대상까지 이 그룹에 속하는 제약조건이 없어 검증하지 않는다
+		 */
+		SKIP,
+
+		/**
+		 * Default 그룹과 같은 제약조건을 평가하므로 생성된 검증기를 쓰는 기본 검증 경로를 탄다
+		 */
+		DEFAULT,
+
+		/**
+		 * Hibernate Validator에 그룹을 넘겨 해당 제약조건만 평가한다
+		 */
+		GROUPS
+	}
+}
@@ -0,0 +1,380 @@
+package seunghun.springvalidation.plan;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.validation.GroupSequence;
+import jakarta.validation.Validator;
+import jakarta.validation.groups.Default;
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import jakarta.validation.metadata.ContainerElementTypeDescriptor;
+import jakarta.validation.metadata.ElementDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
+
+import org.hibernate.validator.group.GroupSequenceProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ReflectionUtils;
+
+import seunghun.springvalidation.plan.ConstraintPlan.Evaluation;
+
+/**
+ * Hibernate Validator 메타데이터로 프로퍼티마다 제약조건 평가 계획을 만든다.
+ * 다른 제약조건에 포함되는 제약조건(@Min(10)이 있을 때의 @Positive 등)을 빼고, 남은 것을 싼 검사부터 정렬한다.
+ *
+ * <p>계획은 통과 여부 판단에만 해당한다. 실패 시 메시지는 지금처럼 모든 제약조건을 평가해 만든다.
+ * 생성 검증기({@code RecordValidatorProcessor})도 같은 규칙으로 정수 범위를 접고 싼 검사부터 실행한다.
+ *
+ * <p>핸들러가 {@code @Validated(Update.class)}처럼 그룹을 지정하면 (DTO, 그룹)마다 계획을 따로 만들어 캐시한다.
+ * 그룹 계획은 그 그룹에 속하는 제약조건만 담고, 요청마다 검증을 건너뛸지, 기본 검증 경로를 탈지, 그룹으로 검증할지 정한다.
+ */
+public class ConstraintPlanAnalyzer {
+	private static final Logger log = LoggerFactory.getLogger(ConstraintPlanAnalyzer.class);
+	private static final String CONSTRAINTS_PACKAGE = "jakarta.validation.constraints.";
+	private static final int OTHER = 6;
+	private static final List<Class<?>> ALL_GROUPS = List.of();
+	private static final Class<?>[] DEFAULT_GROUPS = {Default.class};
+
+	private final Validator validator;
+	private final Map<PlanKey, ConstraintPlan> plans = new ConcurrentHashMap<>();
+
+	public ConstraintPlanAnalyzer(Validator validator) {
+		this.validator = validator;
+	}
+
+	public List<ConstraintPlan> analyze(Collection<Class<?>> types) {
+		List<ConstraintPlan> result = new ArrayList<>(types.size());
+		int removed = 0;
+		for (Class<?> type : types) {
+			ConstraintPlan plan = analyze(type);
+			result.add(plan);
+
+			for (PropertyPlan property : plan.properties()) {
+				for (RemovedConstraint constraint : property.removed()) {
+					log.info("Constraint plan {}.{}: dropped {}", type.getSimpleName(), property.property(), constraint);
+					removed++;
+				}
+			}
+		}
+
+		log.info("Constraint plan: {} types analyzed, {} redundant constraints dropped", result.size(), removed);
+		return result;
+	}
+
+	/**
+	 * 핸들러 파라미터에 선언된 (DTO, 그룹) 쌍의 계획을 미리 만든다
+	 */
+	public List<ConstraintPlan> analyzeGroups(Map<Class<?>, Set<List<Class<?>>>> validationGroups) {
+		List<ConstraintPlan> result = new ArrayList<>();
+		validationGroups.forEach((type, groupSets) -> {
+			for (List<Class<?>> groups : groupSets) {
+				ConstraintPlan plan = analyze(type, groups.toArray(Class<?>[]::new));
+				result.add(plan);
+				log.info("Constraint plan {} for groups {}: {} ({} properties)",
+					type.getSimpleName(), groups.stream().map(Class::getSimpleName).toList(), plan.evaluation(), plan.properties().size());
+			}
+		});
+
+		return result;
+	}
+
+	/**
+	 * 그룹과 관계없이 선언된 모든 제약조건의 계획. 기본 검증 경로로 본다.
+	 */
+	public ConstraintPlan analyze(Class<?> type) {
+		return analyze(new PlanKey(type, ALL_GROUPS));
+	}
+
+	public ConstraintPlan analyze(Class<?> type, Class<?>... groups) {
+		return analyze(new PlanKey(type, List.of(groups)));
+	}
+
+	public ConstraintPlan getPlan(Class<?> type) {
+		return plans.get(new PlanKey(type, ALL_GROUPS));
+	}
+
+	public ConstraintPlan getPlan(Class<?> type, Class<?>... groups) {
+		return plans.get(new PlanKey(type, List.of(groups)));
+	}
+
+	// 요청 경로에서도 호출되므로 computeIfAbsent로 캐리어 스레드를 붙잡지 않는다
+	private ConstraintPlan analyze(PlanKey key) {
+		ConstraintPlan plan = plans.get(key);
+		if (plan == null) {
+			plan = key.groups().isEmpty() ? createPlan(key.type()) : createPlan(key.type(), key.groups().toArray(Class<?>[]::new));
+			ConstraintPlan existing = plans.putIfAbsent(key, plan);
+			if (existing != null) {
+				plan = existing;
+			}
+		}
+
+		return plan;
+	}
+
+	private ConstraintPlan createPlan(Class<?> type) {
+		List<PropertyPlan> properties = new ArrayList<>();
+		for (PropertyDescriptor property : validator.getConstraintsForClass(type).getConstrainedProperties()) {
+			properties.add(plan(property.getPropertyName(), property.getConstraintDescriptors()));
+		}
+
+		properties.sort(Comparator.comparing(PropertyPlan::property));
+		return new ConstraintPlan(type, ALL_GROUPS, List.copyOf(properties), Evaluation.DEFAULT);
+	}
+
+	private ConstraintPlan createPlan(Class<?> type, Class<?>[] groups) {
+		List<PropertyPlan> properties = new ArrayList<>();
+		for (PropertyDescriptor property : validator.getConstraintsForClass(type).getConstrainedProperties()) {
+			Set<ConstraintDescriptor<?>> constraints = property.findConstraints().unorderedAndMatchingGroups(groups).getConstraintDescriptors();
+			if (!constraints.isEmpty()) {
+				properties.add(plan(property.getPropertyName(), constraints));
+			}
+		}
+
+		properties.sort(Comparator.comparing(PropertyPlan::property));
+		return new ConstraintPlan(type, List.of(groups), List.copyOf(properties), evaluate(type, groups));
+	}
+
+	private Evaluation evaluate(Class<?> type, Class<?>[] groups) {
+		if (Arrays.equals(groups, DEFAULT_GROUPS)) {
+			return Evaluation.DEFAULT;
+		}
+
+		if (Arrays.stream(groups).anyMatch(ConstraintPlanAnalyzer::isGroupSequence)) {
+			return Evaluation.GROUPS;
+		}
+
+		Scan scan = scan(type, groups, new HashSet<>());
+		if (!scan.constrained()) {
+			return Evaluation.SKIP;
+		}
+
+		return scan.defaultEquivalent() ? Evaluation.DEFAULT : Evaluation.GROUPS;
+	}
+
+	// cascade를 따라가며 그룹에 속하는 제약조건이 있는지, 있다면 Default 그룹과 같은 제약조건인지 본다
+	private Scan scan(Class<?> type, Class<?>[] groups, Set<Class<?>> visited) {
+		if (type == null || isGroupSequence(type)) {
+			return Scan.UNKNOWN;
+		}
+
+		if (!visited.add(type)) {
+			return Scan.NONE;
+		}
+
+		BeanDescriptor bean = validator.getConstraintsForClass(type);
+		Scan scan = compare(bean, groups);
+		for (PropertyDescriptor property : bean.getConstrainedProperties()) {
+			scan = scan.and(compare(property, groups));
+			if (property.isCascaded()) {
+				// 그룹 변환(@ConvertGroup)이 있으면 하위 타입의 그룹을 따로 계산해야 하므로 판단하지 않는다
+				scan = scan.and(property.getGroupConversions().isEmpty() ? scan(cascadeType(type, property), groups, visited) : Scan.UNKNOWN);
+			}
+
+			for (ContainerElementTypeDescriptor element : property.getConstrainedContainerElementTypes()) {
+				scan = scan.and(compare(element, groups));
+				if (element.isCascaded()) {
+					scan = scan.and(element.getGroupConversions().isEmpty() ? scan(element.getElementClass(), groups, visited) : Scan.UNKNOWN);
+				}
+			}
+		}
+
+		return scan;
+	}
+
+	private static Scan compare(ElementDescriptor descriptor, Class<?>[] groups) {
+		Set<ConstraintDescriptor<?>> matching = descriptor.findConstraints().unorderedAndMatchingGroups(groups).getConstraintDescriptors();
+		Set<ConstraintDescriptor<?>> defaults = descriptor.findConstraints().unorderedAndMatchingGroups(DEFAULT_GROUPS).getConstraintDescriptors();
+		return new Scan(!matching.isEmpty(), matching.equals(defaults));
+	}
+
+	// List<UserDto>처럼 프로퍼티에 붙은 @Valid는 요소 타입을 필드 제네릭에서 찾는다. 알 수 없으면 null
+	private static Class<?> cascadeType(Class<?> owner, PropertyDescriptor property) {
+		Class<?> type = property.getElementClass();
+		if (type.isArray()) {
+			return type.getComponentType();
+		}
+
+		if (Iterable.class.isAssignableFrom(type)) {
+			Field field = ReflectionUtils.findField(owner, property.getPropertyName());
+			return field == null ? null : ResolvableType.forField(field).asCollection().resolveGeneric(0);
+		}
+
+		return Map.class.isAssignableFrom(type) ? null : type;
+	}
+
+	// Default 그룹을 재정의하거나 순서대로 평가하는 그룹은 제약조건 집합만으로 판단할 수 없다
+	private static boolean isGroupSequence(Class<?> type) {
+		return type.isAnnotationPresent(GroupSequence.class) || type.isAnnotationPresent(GroupSequenceProvider.class);
+	}
+
+	private static PropertyPlan plan(String property, Collection<ConstraintDescriptor<?>> descriptors) {
+		List<ConstraintDescriptor<?>> constraints = new ArrayList<>(descriptors);
+		constraints.sort(Comparator.<ConstraintDescriptor<?>>comparingInt(ConstraintPlanAnalyzer::cost).thenComparing(ConstraintPlanAnalyzer::describe));
+
+		List<ConstraintDescriptor<?>> kept = new ArrayList<>();
+		List<RemovedConstraint> removed = new ArrayList<>();
+		for (ConstraintDescriptor<?> constraint : constraints) {
+			ConstraintDescriptor<?> impliedBy = findImplying(constraint, constraints, removed);
+			if (impliedBy == null) {
+				kept.add(constraint);
+			} else {
+				removed.add(new RemovedConstraint(constraint, impliedBy));
+			}
+		}
+
+		return new PropertyPlan(property, List.copyOf(kept), List.copyOf(removed));
+	}
+
+	// 서로를 포함하는 두 제약조건(@Min(10)과 @DecimalMin("10"))은 먼저 빠진 쪽을 후보에서 제외해 하나만 남긴다
+	private static ConstraintDescriptor<?> findImplying(
+		ConstraintDescriptor<?> constraint,
+		List<ConstraintDescriptor<?>> candidates,
+		List<RemovedConstraint> removed
+	) {
+		for (ConstraintDescriptor<?> candidate : candidates) {
+			if (candidate == constraint
+				|| removed.stream().anyMatch(entry -> entry.constraint() == candidate)
+				|| !isSameScope(candidate, constraint)) {
+				continue;
+			}
+
+			if (implies(candidate, constraint)) {
+				return candidate;
+			}
+		}
+
+		return null;
+	}
+
+	// 그룹이나 payload가 다르면 실패 시 의미가 달라지므로 비교하지 않는다
+	private static boolean isSameScope(ConstraintDescriptor<?> left, ConstraintDescriptor<?> right) {
+		return left.getGroups().equals(right.getGroups())
+			&& left.getPayload().isEmpty()
+			&& right.getPayload().isEmpty();
+	}
+
+	private static boolean implies(ConstraintDescriptor<?> stronger, ConstraintDescriptor<?> weaker) {
+		String strongerName = name(stronger);
+		String weakerName = name(weaker);
+		if (strongerName == null || weakerName == null) {
+			return false;
+		}
+
+		if (weakerName.equals("NotNull") && (strongerName.equals("NotBlank") || strongerName.equals("NotEmpty"))) {
+			return true;
+		}
+
+		if (weakerName.equals("NotEmpty") && strongerName.equals("NotBlank")) {
+			return true;
+		}
+
+		Bound strongerLower = lowerBound(strongerName, stronger);
+		Bound weakerLower = lowerBound(weakerName, weaker);
+		if (strongerLower != null && weakerLower != null) {
+			int compared = strongerLower.value().compareTo(weakerLower.value());
+			return compared > 0 || (compared == 0 && (weakerLower.inclusive() || !strongerLower.inclusive()));
+		}
+
+		Bound strongerUpper = upperBound(strongerName, stronger);
+		Bound weakerUpper = upperBound(weakerName, weaker);
+		if (strongerUpper != null && weakerUpper != null) {
+			int compared = strongerUpper.value().compareTo(weakerUpper.value());
+			return compared < 0 || (compared == 0 && (weakerUpper.inclusive() || !strongerUpper.inclusive()));
+		}
+
+		return false;
+	}
+
+	private static Bound lowerBound(String name, ConstraintDescriptor<?> descriptor) {
+		return switch (name) {
+			case "Min" -> new Bound(BigDecimal.valueOf(((Number)descriptor.getAttributes().get("value")).longValue()), true);
+			case "DecimalMin" -> new Bound(new BigDecimal((String)descriptor.getAttributes().get("value")), (Boolean)descriptor.getAttributes().get("inclusive"));
+			case "Positive" -> new Bound(BigDecimal.ZERO, false);
+			case "PositiveOrZero" -> new Bound(BigDecimal.ZERO, true);
+			default -> null;
+		};
+	}
+
+	private static Bound upperBound(String name, ConstraintDescriptor<?> descriptor) {
+		return switch (name) {
+			case "Max" -> new Bound(BigDecimal.valueOf(((Number)descriptor.getAttributes().get("value")).longValue()), true);
+			case "DecimalMax" -> new Bound(new BigDecimal((String)descriptor.getAttributes().get("value")), (Boolean)descriptor.getAttributes().get("inclusive"));
+			case "Negative" -> new Bound(BigDecimal.ZERO, false);
+			case "NegativeOrZero" -> new Bound(BigDecimal.ZERO, true);
+			default -> null;
+		};
+	}
+
+	// null 비교, 숫자 비교, 크기/문자열 순회, 시계 조회, 정규식, 커스텀 순으로 비싸다고 본다
+	private static int cost(ConstraintDescriptor<?> descriptor) {
+		String name = name(descriptor);
+		if (name == null) {
+			return OTHER;
+		}
+
+		return switch (name) {
+			case "Null", "NotNull" -> 0;
+			case "AssertTrue", "AssertFalse", "Min", "Max", "DecimalMin", "DecimalMax",
+				"Positive", "PositiveOrZero", "Negative", "NegativeOrZero", "Digits" -> 1;
+			case "NotEmpty", "Size" -> 2;
+			case "NotBlank" -> 3;
+			case "Past", "PastOrPresent", "Future", "FutureOrPresent" -> 4;
+			case "Email", "Pattern" -> 5;
+			default -> OTHER;
+		};
+	}
+
+	// jakarta.validation.constraints의 제약조건만 규칙을 적용한다
+	private static String name(ConstraintDescriptor<?> descriptor) {
+		Class<?> annotationType = descriptor.getAnnotation().annotationType();
+		return annotationType.getName().startsWith(CONSTRAINTS_PACKAGE) ? annotationType.getSimpleName() : null;
+	}
+
+	static String describe(ConstraintDescriptor<?> descriptor) {
+		String simpleName = descriptor.getAnnotation().annotationType().getSimpleName();
+		Object value = descriptor.getAttributes().get("value");
+		return value == null ? "@" + simpleName : "@" + simpleName + "(" + value + ")";
+	}
+
+	/**
+	 * @param inclusive 경계값 자체를 허용하면 true
+	 */
+	private record Bound(
+		BigDecimal value,
+		boolean inclusive
+	) {
+	}
+
+	private record PlanKey(
+		Class<?> type,
+		List<Class<?>> groups
+	) {
+	}
+
+	/**
+	 * @param constrained 그룹에 속하는 제약조건이 하나라도 있으면 true
+	 * @param defaultEquivalent 모든 요소에서 그룹의 제약조건이 Default 그룹의 제약조건과 같으면 true
+	 */
+	private record Scan(
+		boolean constrained,
+		boolean defaultEquivalent
+	) {
+		static final Scan NONE = new Scan(false, true);
+		static final Scan UNKNOWN = new Scan(true, false);
+
+		Scan and(Scan other) {
+			return new Scan(constrained || other.constrained, defaultEquivalent && other.defaultEquivalent);
+		}
+	}
+}
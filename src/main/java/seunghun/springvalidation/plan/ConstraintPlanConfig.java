@@ -0,0 +1,19 @@
+package seunghun.springvalidation.plan;
+
+import jakarta.validation.Validator;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 분석 대상 타입은 시작 시 워밍업({@code ValidationWarmUpConfig})이 찾은 타입이다
+ */
+@Configuration(proxyBeanMethods = false)
+public class ConstraintPlanConfig {
+	@Bean
+	@ConditionalOnProperty(value = "validation.constraint-plan.enabled", matchIfMissing = true)
+	ConstraintPlanAnalyzer constraintPlanAnalyzer(Validator validator) {
+		return new ConstraintPlanAnalyzer(validator);
+	}
+}
@@ -0,0 +1,16 @@
+package seunghun.springvalidation.plan;
+
+import java.util.List;
+
+import jakarta.validation.metadata.ConstraintDescriptor;
+
+/**
+ * @param evaluationOrder 남은 제약조건을 싼 것부터 나열한 순서
+ * @param removed 다른 제약조건에 포함되어 통과 여부 판단에서 빠지는 제약조건
+ */
+public record PropertyPlan(
+	String property,
+	List<ConstraintDescriptor<?>> evaluationOrder,
+	List<RemovedConstraint> removed
+) {
+}
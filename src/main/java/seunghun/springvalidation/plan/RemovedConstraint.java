@@ -0,0 +1,16 @@
+package seunghun.springvalidation.plan;
+
+import jakarta.validation.metadata.ConstraintDescriptor;
+
+/**
+ * @param impliedBy constraint를 만족시키는 더 강한 제약조건
+ */
+public record RemovedConstraint(
+	ConstraintDescriptor<?> constraint,
+	ConstraintDescriptor<?> impliedBy
+) {
+	@Override
+	public String toString() {
+		return ConstraintPlanAnalyzer.describe(constraint) + " (implied by " + ConstraintPlanAnalyzer.describe(impliedBy) + ")";
+	}
+}
@@ -0,0 +1,51 @@
+package seunghun.springvalidation.proxyfree;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.validation.beanvalidation.MethodValidationAdapter;
+import org.springframework.web.method.HandlerMethod;
+
+import seunghun.springvalidation.jfr.RecordingInvocableHandlerMethod;
+
+/**
+ * 클래스 레벨 {@code @Validated} 컨트롤러의 메서드 검증을 AOP 프록시 대신 핸들러 호출 직전에 실행한다.
+ * MethodValidationInterceptor와 같은 그룹 결정, 같은 ConstraintViolationException을 사용하므로 에러 응답이 동일하다.
+ */
+public class ProxyFreeValidatedInvocableHandlerMethod extends RecordingInvocableHandlerMethod {
+	private final MethodValidationAdapter methodValidationAdapter;
+
+	public ProxyFreeValidatedInvocableHandlerMethod(HandlerMethod handlerMethod, MethodValidationAdapter methodValidationAdapter) {
+		super(handlerMethod);
+		this.methodValidationAdapter = methodValidationAdapter;
+	}
+
+	public static boolean supports(HandlerMethod handlerMethod) {
+		return AnnotatedElementUtils.hasAnnotation(handlerMethod.getBeanType(), Validated.class);
+	}
+
+	@Override
+	protected Object doInvoke(Object... args) throws Exception {
+		Object bean = getBean();
+		Method method = getBridgedMethod();
+		Class<?>[] groups = methodValidationAdapter.determineValidationGroups(bean, method);
+
+		Set<ConstraintViolation<Object>> violations = methodValidationAdapter.invokeValidatorForArguments(bean, method, args, groups);
+		if (!violations.isEmpty()) {
+			throw new ConstraintViolationException(violations);
+		}
+
+		Object returnValue = super.doInvoke(args);
+		violations = methodValidationAdapter.invokeValidatorForReturnValue(bean, method, returnValue, groups);
+		if (!violations.isEmpty()) {
+			throw new ConstraintViolationException(violations);
+		}
+
+		return returnValue;
+	}
+}
@@ -0,0 +1,20 @@
+package seunghun.springvalidation.proxyfree;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.validation.beanvalidation.MethodValidationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.stereotype.Controller;
+
+/**
+ * {@code validation.proxy-free.enabled=true}이면 컨트롤러를 MethodValidationPostProcessor 프록시 대상에서 제외한다.
+ * 제외된 컨트롤러의 검증은 {@link ProxyFreeValidatedInvocableHandlerMethod}가 맡는다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class ProxyFreeValidationConfig {
+	@Bean
+	@ConditionalOnProperty("validation.proxy-free.enabled")
+	static MethodValidationExcludeFilter controllerMethodValidationExcludeFilter() {
+		return MethodValidationExcludeFilter.byAnnotation(Controller.class);
+	}
+}
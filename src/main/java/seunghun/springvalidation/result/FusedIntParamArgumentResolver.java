@@ -0,0 +1,82 @@
+package seunghun.springvalidation.result;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.annotation.RequestParamMethodArgumentResolver;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import seunghun.springvalidation.handle.ValidationErrorMapper;
+
+/**
+ * {@code @RequestParam int} 파라미터를 WebDataBinder 변환 없이 파싱한다.
+ * {@code @ValidationResultMode} 핸들러에서는 숫자 제약조건도 같은 단계에서 검사하고 변환 실패를 ErrorDetail로 기록한다.
+ * 그 외 핸들러에서는 파싱할 수 없는 값만 기본 {@code @RequestParam} 처리로 넘겨 기존 예외와 메서드 검증을 그대로 따른다.
+ */
+public class FusedIntParamArgumentResolver implements HandlerMethodArgumentResolver {
+	static final String TYPE_MISMATCH_MESSAGE = "숫자 형식이 올바르지 않습니다";
+
+	private final Map<MethodParameter, FusedIntParamSpec> specs = new ConcurrentHashMap<>();
+	private final Map<MethodParameter, Boolean> resultModes = new ConcurrentHashMap<>();
+	private final RequestParamMethodArgumentResolver fallback = new RequestParamMethodArgumentResolver(false);
+	private final ValidationErrorMapper validationErrorMapper;
+
+	public FusedIntParamArgumentResolver(ValidationErrorMapper validationErrorMapper) {
+		this.validationErrorMapper = validationErrorMapper;
+	}
+
+	@Override
+	public boolean supportsParameter(MethodParameter parameter) {
+		return spec(parameter) != null;
+	}
+
+	@Override
+	public Object resolveArgument(
+		MethodParameter parameter,
+		ModelAndViewContainer mavContainer,
+		NativeWebRequest webRequest,
+		WebDataBinderFactory binderFactory
+	) throws Exception {
+		FusedIntParamSpec spec = spec(parameter);
+		String value = webRequest.getParameter(spec.name());
+		// 기본 @RequestParam 처리처럼 빈 값에도 defaultValue를 적용한다
+		if (value == null || (value.isEmpty() && spec.defaultValue() != null)) {
+			value = spec.defaultValue();
+		}
+
+		if (value == null) {
+			throw new MissingServletRequestParameterException(spec.name(), "int");
+		}
+
+		boolean resultMode = resultModes.computeIfAbsent(
+			parameter,
+			key -> ValidationResultSupport.isResultMode(key.getMethod(), key.getContainingClass())
+		);
+
+		long parsed = FusedIntParamSpec.parse(value);
+		if (parsed == FusedIntParamSpec.INVALID) {
+			if (!resultMode) {
+				// 16진수, 빈 값 등은 기본 변환이 같은 값이나 같은 예외를 만든다
+				return fallback.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+			}
+
+			FusedParamState.getOrCreate(webRequest).addConversionError(validationErrorMapper.toErrorDetail(spec.name(), value, TYPE_MISMATCH_MESSAGE, "TypeMismatch"));
+			return 0;
+		}
+
+		if (resultMode && !spec.inRange(parsed)) {
+			FusedParamState.getOrCreate(webRequest).markConstraintFailed();
+		}
+
+		return (int)parsed;
+	}
+
+	private FusedIntParamSpec spec(MethodParameter parameter) {
+		return specs.computeIfAbsent(parameter, FusedIntParamSpec::of);
+	}
+}
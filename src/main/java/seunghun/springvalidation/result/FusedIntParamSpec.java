@@ -0,0 +1,132 @@
+package seunghun.springvalidation.result;
+
+import java.lang.annotation.Annotation;
+import java.util.Map;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Negative;
+import jakarta.validation.constraints.NegativeOrZero;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ValueConstants;
+
+/**
+ * {@code @RequestParam int} 파라미터의 이름과 숫자 제약조건을 미리 계산해 둔 값.
+ * 제약조건을 모두 이해했으면 constraintsFullyChecked가 true이고, 이때는 별도 메서드 검증이 필요 없다.
+ */
+record FusedIntParamSpec(
+	String name,
+	String defaultValue,
+	long min,
+	long max,
+	boolean constraintsFullyChecked
+) {
+	static final long INVALID = Long.MIN_VALUE;
+
+	static FusedIntParamSpec of(MethodParameter parameter) {
+		RequestParam requestParam = parameter.getParameterAnnotation(RequestParam.class);
+		if (requestParam == null || parameter.getParameterType() != int.class) {
+			return null;
+		}
+
+		String name = requestParam.name().isEmpty() ? parameter.getParameterName() : requestParam.name();
+		if (name == null) {
+			return null;
+		}
+
+		long min = Integer.MIN_VALUE;
+		long max = Integer.MAX_VALUE;
+		boolean fullyChecked = true;
+
+		for (Annotation annotation : parameter.getParameterAnnotations()) {
+			if (!annotation.annotationType().isAnnotationPresent(Constraint.class)) {
+				continue;
+			}
+
+			Map<String, Object> attributes = AnnotationUtils.getAnnotationAttributes(annotation);
+			if (attributes.get("groups") instanceof Class<?>[] groups && groups.length > 0) {
+				fullyChecked = false;
+				continue;
+			}
+
+			switch (annotation) {
+				case Min minAnnotation -> min = Math.max(min, minAnnotation.value());
+				case Max maxAnnotation -> max = Math.min(max, maxAnnotation.value());
+				case Positive ignored -> min = Math.max(min, 1);
+				case PositiveOrZero ignored -> min = Math.max(min, 0);
+				case Negative ignored -> max = Math.min(max, -1);
+				case NegativeOrZero ignored -> max = Math.min(max, 0);
+				default -> fullyChecked = false;
+			}
+		}
+
+		// 필수가 아니면서 기본값도 없는 int는 기존 처리(IllegalStateException)를 따른다
+		String defaultValue = ValueConstants.DEFAULT_NONE.equals(requestParam.defaultValue()) ? null : requestParam.defaultValue();
+		if (!requestParam.required() && defaultValue == null) {
+			return null;
+		}
+
+		return new FusedIntParamSpec(name, defaultValue, min, max, fullyChecked);
+	}
+
+	boolean inRange(long value) {
+		return value >= min && value <= max;
+	}
+
+	/**
+	 * 앞뒤 공백을 허용하는 10진수 int 파싱. 형식이 잘못되었거나 범위를 벗어나면 INVALID를 반환한다.
+	 */
+	static long parse(String value) {
+		int start = 0;
+		int end = value.length();
+		while (start < end && Character.isWhitespace(value.charAt(start))) {
+			start++;
+		}
+
+		while (end > start && Character.isWhitespace(value.charAt(end - 1))) {
+			end--;
+		}
+
+		boolean negative = false;
+		if (start < end && (value.charAt(start) == '-' || value.charAt(start) == '+')) {
+			negative = value.charAt(start) == '-';
+			start++;
+		}
+
+		if (start == end) {
+			return INVALID;
+		}
+
+		// Integer.parseInt처럼 앞에 붙은 0은 자릿수에 세지 않는다
+		while (end - start > 1 && value.charAt(start) == '0') {
+			start++;
+		}
+
+		if (end - start > 10) {
+			return INVALID;
+		}
+
+		long result = 0;
+		for (int i = start; i < end; i++) {
+			char c = value.charAt(i);
+			if (c < '0' || c > '9') {
+				return INVALID;
+			}
+
+			result = result * 10 + (c - '0');
+		}
+
+		result = negative ? -result : result;
+		if (result < Integer.MIN_VALUE || result > Integer.MAX_VALUE) {
+			return INVALID;
+		}
+
+		return result;
+	}
+}
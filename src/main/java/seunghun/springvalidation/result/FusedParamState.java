@@ -0,0 +1,49 @@
+package seunghun.springvalidation.result;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+
+import seunghun.springvalidation.handle.ErrorDetail;
+
+/**
+ * 요청 중 fused 파라미터에서 실패가 있었을 때만 만들어지는 상태
+ */
+class FusedParamState {
+	private static final String ATTRIBUTE = FusedParamState.class.getName();
+
+	private final List<ErrorDetail> conversionErrors = new ArrayList<>();
+	private boolean constraintFailed;
+
+	static FusedParamState get(NativeWebRequest request) {
+		return (FusedParamState)request.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+	}
+
+	static FusedParamState getOrCreate(NativeWebRequest request) {
+		FusedParamState state = get(request);
+		if (state == null) {
+			state = new FusedParamState();
+			request.setAttribute(ATTRIBUTE, state, RequestAttributes.SCOPE_REQUEST);
+		}
+
+		return state;
+	}
+
+	void addConversionError(ErrorDetail errorDetail) {
+		conversionErrors.add(errorDetail);
+	}
+
+	void markConstraintFailed() {
+		constraintFailed = true;
+	}
+
+	List<ErrorDetail> getConversionErrors() {
+		return conversionErrors;
+	}
+
+	boolean isConstraintFailed() {
+		return constraintFailed;
+	}
+}
@@ -0,0 +1,49 @@
+package seunghun.springvalidation.result;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcRegistrations;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.beanvalidation.MethodValidationAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ExceptionHandlerExceptionResolver;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import seunghun.springvalidation.generated.GeneratedValidationConfig;
+import seunghun.springvalidation.generated.GeneratedValidatorAdapter;
+import seunghun.springvalidation.handle.RejectedValuePolicy;
+import seunghun.springvalidation.handle.ValidationErrorMapper;
+import seunghun.springvalidation.jfr.RecordingExceptionHandlerExceptionResolver;
+
+@Configuration(proxyBeanMethods = false)
+public class ValidationResultConfig implements WebMvcRegistrations {
+	private final GeneratedValidationConfig generatedValidationConfig;
+	private final ObjectProvider<RejectedValuePolicy> rejectedValuePolicy;
+	private final boolean proxyFreeValidated;
+
+	public ValidationResultConfig(
+		GeneratedValidationConfig generatedValidationConfig,
+		ObjectProvider<RejectedValuePolicy> rejectedValuePolicy,
+		@Value("${validation.proxy-free.enabled:false}") boolean proxyFreeValidated
+	) {
+		this.generatedValidationConfig = generatedValidationConfig;
+		this.rejectedValuePolicy = rejectedValuePolicy;
+		this.proxyFreeValidated = proxyFreeValidated;
+	}
+
+	@Override
+	public RequestMappingHandlerAdapter getRequestMappingHandlerAdapter() {
+		GeneratedValidatorAdapter validatorAdapter = generatedValidationConfig.getValidatorAdapter();
+		return new ValidationResultHandlerAdapter(
+			new MethodValidationAdapter(validatorAdapter),
+			validatorAdapter,
+			new ValidationErrorMapper(rejectedValuePolicy.getIfAvailable(() -> RejectedValuePolicy.DEFAULT)),
+			proxyFreeValidated
+		);
+	}
+
+	// WebMvcRegistrations는 하나만 둘 수 있으므로 예외 매핑 JFR 기록도 여기서 등록한다
+	@Override
+	public ExceptionHandlerExceptionResolver getExceptionHandlerExceptionResolver() {
+		return new RecordingExceptionHandlerExceptionResolver();
+	}
+}
@@ -0,0 +1,69 @@
+package seunghun.springvalidation.result;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.MethodValidationAdapter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ServletInvocableHandlerMethod;
+
+import seunghun.springvalidation.handle.ValidationErrorMapper;
+import seunghun.springvalidation.jfr.RecordingInvocableHandlerMethod;
+import seunghun.springvalidation.proxyfree.ProxyFreeValidatedInvocableHandlerMethod;
+
+public class ValidationResultHandlerAdapter extends RequestMappingHandlerAdapter {
+	private final MethodValidationAdapter methodValidationAdapter;
+	private final SmartValidator validator;
+	private final ValidationErrorMapper validationErrorMapper;
+	private final boolean proxyFreeValidated;
+	private final Map<Method, Boolean> resultModeCache = new ConcurrentHashMap<>();
+	private final Map<Method, ValidationTargets> validationTargetsCache = new ConcurrentHashMap<>();
+
+	public ValidationResultHandlerAdapter(
+		MethodValidationAdapter methodValidationAdapter,
+		SmartValidator validator,
+		ValidationErrorMapper validationErrorMapper,
+		boolean proxyFreeValidated
+	) {
+		this.methodValidationAdapter = methodValidationAdapter;
+		this.validator = validator;
+		this.validationErrorMapper = validationErrorMapper;
+		this.proxyFreeValidated = proxyFreeValidated;
+	}
+
+	@Override
+	protected ServletInvocableHandlerMethod createInvocableHandlerMethod(HandlerMethod handlerMethod) {
+		boolean resultMode = resultModeCache.computeIfAbsent(handlerMethod.getMethod(), method -> ValidationResultSupport.isResultMode(handlerMethod));
+		if (resultMode) {
+			ValidationTargets validationTargets = validationTargetsCache.computeIfAbsent(
+				handlerMethod.getMethod(),
+				method -> ValidationTargets.of(handlerMethod.getMethodParameters())
+			);
+
+			return new ValidationResultInvocableHandlerMethod(handlerMethod, methodValidationAdapter, validator, validationTargets, validationErrorMapper);
+		}
+
+		if (proxyFreeValidated && ProxyFreeValidatedInvocableHandlerMethod.supports(handlerMethod)) {
+			return new ProxyFreeValidatedInvocableHandlerMethod(handlerMethod, methodValidationAdapter);
+		}
+
+		return new RecordingInvocableHandlerMethod(handlerMethod);
+	}
+
+	// fused 파라미터는 기본 @RequestParam 처리보다 먼저 해석해야 한다
+	@Override
+	public void afterPropertiesSet() {
+		super.afterPropertiesSet();
+
+		List<HandlerMethodArgumentResolver> resolvers = new ArrayList<>();
+		resolvers.add(new FusedIntParamArgumentResolver(validationErrorMapper));
+		resolvers.addAll(getArgumentResolvers());
+		setArgumentResolvers(resolvers);
+	}
+}
@@ -0,0 +1,116 @@
+package seunghun.springvalidation.result;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.beanvalidation.MethodValidationAdapter;
+import org.springframework.validation.method.MethodValidationResult;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import seunghun.springvalidation.failfast.FailFastSupport;
+import seunghun.springvalidation.handle.ErrorDetail;
+import seunghun.springvalidation.handle.ErrorResponse;
+import seunghun.springvalidation.handle.ValidationErrorMapper;
+import seunghun.springvalidation.jfr.RecordingInvocableHandlerMethod;
+
+/**
+ * 인자를 모두 해석한 뒤 직접 검증하고, 위반이 있으면 예외 없이 ErrorResponse를 반환한다.
+ * {@code @Valid} 본문은 binder와 같은 Validator로, 나머지 파라미터 제약조건은 메서드 검증으로 확인한다.
+ * 응답은 일반 반환값처럼 설정된 HttpMessageConverter와 ResponseBodyAdvice를 거쳐 작성된다.
+ */
+public class ValidationResultInvocableHandlerMethod extends RecordingInvocableHandlerMethod {
+	private final MethodValidationAdapter methodValidationAdapter;
+	private final SmartValidator validator;
+	private final ValidationTargets validationTargets;
+	private final ValidationErrorMapper validationErrorMapper;
+
+	ValidationResultInvocableHandlerMethod(
+		HandlerMethod handlerMethod,
+		MethodValidationAdapter methodValidationAdapter,
+		SmartValidator validator,
+		ValidationTargets validationTargets,
+		ValidationErrorMapper validationErrorMapper
+	) {
+		super(handlerMethod);
+		this.methodValidationAdapter = methodValidationAdapter;
+		this.validator = validator;
+		this.validationTargets = validationTargets;
+		this.validationErrorMapper = validationErrorMapper;
+	}
+
+	@Override
+	public Object invokeForRequest(NativeWebRequest request, ModelAndViewContainer mavContainer, Object... providedArgs) throws Exception {
+		Object[] args;
+		request.setAttribute(ValidationResultSupport.DEFERRED_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+		try {
+			args = getMethodArgumentValues(request, mavContainer, providedArgs);
+		} finally {
+			request.removeAttribute(ValidationResultSupport.DEFERRED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+		}
+
+		FusedParamState fusedParamState = FusedParamState.get(request);
+		List<ErrorDetail> errorDetails = new ArrayList<>();
+		if (fusedParamState != null) {
+			errorDetails.addAll(fusedParamState.getConversionErrors());
+		}
+
+		validateBeans(args, errorDetails);
+
+		// fused 파라미터는 범위를 벗어난 값이 있을 때만 메서드 검증으로 메시지를 만든다
+		if (validationTargets.requiresMethodValidation() || (fusedParamState != null && fusedParamState.isConstraintFailed())) {
+			Class<?>[] groups = methodValidationAdapter.determineValidationGroups(getBean(), getBridgedMethod());
+			MethodValidationResult result = methodValidationAdapter.validateArguments(
+				getBean(),
+				getBridgedMethod(),
+				getMethodParameters(),
+				validationTargets.withoutBeanArguments(args),
+				groups
+			);
+			// 변환에 실패한 파라미터는 자리표시 값으로 검증되므로 제약조건 에러를 중복으로 내보내지 않는다
+			Set<String> conversionFailed = errorDetails.stream().map(ErrorDetail::field).collect(Collectors.toSet());
+			validationErrorMapper.toErrorDetails(result)
+				.stream()
+				.filter(errorDetail -> !conversionFailed.contains(errorDetail.field()))
+				.forEach(errorDetails::add);
+		}
+
+		if (errorDetails.isEmpty()) {
+			return doInvoke(args);
+		}
+
+		HttpServletRequest servletRequest = request.getNativeRequest(HttpServletRequest.class);
+		return ResponseEntity.badRequest().body(ErrorResponse.of(
+			ValidationErrorMapper.MESSAGE,
+			servletRequest.getRequestURI(),
+			errorDetails,
+			FailFastSupport.isTruncated(servletRequest)
+		));
+	}
+
+	// 생성된 검증기, 병렬 cascade, fail-fast, 역직렬화 중 검증 결과가 binder 검증과 똑같이 적용된다
+	private void validateBeans(Object[] args, List<ErrorDetail> errorDetails) {
+		for (int i = 0; i < args.length; i++) {
+			Object[] hints = validationTargets.beanHints()[i];
+			if (hints == null || args[i] == null) {
+				continue;
+			}
+
+			BindingResult bindingResult = new BeanPropertyBindingResult(args[i], validationTargets.objectNames()[i]);
+			validator.validate(args[i], bindingResult, hints);
+			if (bindingResult.hasErrors()) {
+				errorDetails.addAll(validationErrorMapper.toErrorDetails(bindingResult));
+			}
+		}
+	}
+}
@@ -0,0 +1,17 @@
+package seunghun.springvalidation.result;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 검증 실패를 예외로 던지지 않고, 인자 검증 결과를 바로 ErrorResponse로 응답한다.
+ * 파라미터 제약조건과 {@code @Valid} 본문을 한 번의 메서드 검증으로 처리한다.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ValidationResultMode {
+}
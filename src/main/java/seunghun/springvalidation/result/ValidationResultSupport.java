@@ -0,0 +1,30 @@
+package seunghun.springvalidation.result;
+
+import java.lang.reflect.Method;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.method.HandlerMethod;
+
+public final class ValidationResultSupport {
+	// 인자 해석 중에는 본문 검증을 미루고 모든 인자를 해석한 뒤 한 번에 검증한다
+	static final String DEFERRED_ATTRIBUTE = ValidationResultSupport.class.getName() + ".DEFERRED";
+
+	private ValidationResultSupport() {
+	}
+
+	public static boolean isResultMode(HandlerMethod handlerMethod) {
+		return isResultMode(handlerMethod.getMethod(), handlerMethod.getBeanType());
+	}
+
+	public static boolean isResultMode(Method method, Class<?> handlerType) {
+		return (method != null && AnnotatedElementUtils.hasAnnotation(method, ValidationResultMode.class))
+			|| AnnotatedElementUtils.hasAnnotation(handlerType, ValidationResultMode.class);
+	}
+
+	public static boolean isDeferred() {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		return attributes != null && attributes.getAttribute(DEFERRED_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null;
+	}
+}
@@ -0,0 +1,92 @@
+package seunghun.springvalidation.result;
+
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.Map;
+
+import jakarta.validation.Constraint;
+
+import org.springframework.core.Conventions;
+import org.springframework.core.MethodParameter;
+import org.springframework.validation.annotation.ValidationAnnotationUtils;
+
+/**
+ * 결과 모드 핸들러의 파라미터별 검증 방법. 핸들러 메서드마다 한 번 계산한다.
+ * <ul>
+ *     <li>{@code @Valid}/{@code @Validated}만 붙은 단일 객체: binder와 같은 Validator(GeneratedValidatorAdapter)로 검증한다</li>
+ *     <li>그 밖의 제약조건과 컨테이너 cascade: 메서드 검증으로 처리한다. fused 파라미터에서 모두 검사했으면 생략한다</li>
+ * </ul>
+ *
+ * @param beanHints 파라미터별 검증 힌트. Validator로 검증하지 않는 파라미터는 null
+ * @param objectNames Validator로 검증하는 파라미터의 BindingResult 이름
+ */
+record ValidationTargets(
+	Object[][] beanHints,
+	String[] objectNames,
+	boolean requiresMethodValidation
+) {
+	static ValidationTargets of(MethodParameter[] parameters) {
+		Object[][] beanHints = new Object[parameters.length][];
+		String[] objectNames = new String[parameters.length];
+		boolean requiresMethodValidation = false;
+
+		for (int i = 0; i < parameters.length; i++) {
+			MethodParameter parameter = parameters[i];
+			Object[] hints = validationHints(parameter);
+			if (hints != null && !hasConstraint(parameter) && !isContainer(parameter.getParameterType())) {
+				beanHints[i] = hints;
+				objectNames[i] = Conventions.getVariableNameForParameter(parameter);
+				continue;
+			}
+
+			if (hints == null && !hasConstraint(parameter)) {
+				continue;
+			}
+
+			FusedIntParamSpec spec = FusedIntParamSpec.of(parameter);
+			if (spec == null || !spec.constraintsFullyChecked()) {
+				requiresMethodValidation = true;
+			}
+		}
+
+		return new ValidationTargets(beanHints, objectNames, requiresMethodValidation);
+	}
+
+	// Validator로 이미 검증한 인자는 null로 바꿔 Hibernate Validator가 다시 cascade하지 않게 한다
+	Object[] withoutBeanArguments(Object[] args) {
+		Object[] copy = args.clone();
+		for (int i = 0; i < copy.length; i++) {
+			if (beanHints[i] != null) {
+				copy[i] = null;
+			}
+		}
+
+		return copy;
+	}
+
+	private static Object[] validationHints(MethodParameter parameter) {
+		for (Annotation annotation : parameter.getParameterAnnotations()) {
+			Object[] hints = ValidationAnnotationUtils.determineValidationHints(annotation);
+			if (hints != null) {
+				return hints;
+			}
+		}
+
+		return null;
+	}
+
+	private static boolean hasConstraint(MethodParameter parameter) {
+		for (Annotation annotation : parameter.getParameterAnnotations()) {
+			Class<? extends Annotation> type = annotation.annotationType();
+			if (type.isAnnotationPresent(Constraint.class) || type.getName().startsWith("jakarta.validation.constraints.")) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean isContainer(Class<?> type) {
+		return Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type) || type.isArray();
+	}
+}
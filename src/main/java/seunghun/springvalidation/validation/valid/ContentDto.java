@@ -2,11 +2,12 @@ package seunghun.springvalidation.validation.valid;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.groups.Default;
 
 public record ContentDto(
 	@Valid
 	UserDto user,
-	@NotBlank
+	@NotBlank(groups = {Default.class, ValidationGroups.Update.class})
 	String content
 ) {
 }
@@ -5,12 +5,14 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -52,6 +54,23 @@ public class ValidController {
 		return ResponseEntity.ok("Hello " + userDto.name() + ", your age is " + userDto.age() + ". content: " + contentDto.content());
 	}
 
+	@PostMapping("/request-body/create")
+	public ResponseEntity<String> requestBodyContentCreate(
+		@RequestBody @Validated(ValidationGroups.Create.class) ContentDto contentDto
+	) {
+		UserDto userDto = contentDto.user();
+
+		return ResponseEntity.ok("Hello " + userDto.name() + ", your age is " + userDto.age() + ". content: " + contentDto.content());
+	}
+
+	// 수정 시에는 content만 검사하고 user는 검사하지 않는다
+	@PutMapping("/request-body")
+	public ResponseEntity<String> requestBodyContentUpdate(
+		@RequestBody @Validated(ValidationGroups.Update.class) ContentDto contentDto
+	) {
+		return ResponseEntity.ok("content: " + contentDto.content());
+	}
+
 	@GetMapping("/path-variable/{name}/{age}")
 	public ResponseEntity<String> pathVariable(
 		@Valid
@@ -0,0 +1,20 @@
+package seunghun.springvalidation.validation.valid;
+
+import jakarta.validation.groups.Default;
+
+/**
+ * 엔드포인트별 검증 그룹. {@code @Validated(ValidationGroups.Update.class)}처럼 핸들러 파라미터에 지정한다.
+ */
+public interface ValidationGroups {
+	/**
+	 * Default를 상속하므로 {@code @Valid}와 같은 제약조건을 평가한다
+	 */
+	interface Create extends Default {
+	}
+
+	/**
+	 * 수정할 수 있는 필드의 제약조건만 평가한다
+	 */
+	interface Update {
+	}
+}
@@ -0,0 +1,142 @@
+package seunghun.springvalidation.warmup;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.validation.Validator;
+import jakarta.validation.metadata.BeanDescriptor;
+import jakarta.validation.metadata.ContainerElementTypeDescriptor;
+import jakarta.validation.metadata.PropertyDescriptor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.validation.annotation.ValidationAnnotationUtils;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * 핸들러 메서드 시그니처에서 출발해 컨트롤러, 파라미터 DTO, cascade 대상 타입의 Hibernate Validator 메타데이터를 미리 만든다.
+ * 첫 요청이 메타데이터 생성 비용을 내지 않도록 readiness 이전에 실행한다.
+ * {@code @Validated(Update.class)}처럼 그룹을 지정한 파라미터는 (DTO, 그룹) 쌍으로 모아 계획을 미리 만들 수 있게 한다.
+ */
+public class ValidationWarmUp {
+	private static final Logger log = LoggerFactory.getLogger(ValidationWarmUp.class);
+
+	private final Validator validator;
+	private volatile ValidationWarmUpReport lastReport;
+
+	public ValidationWarmUp(Validator validator) {
+		this.validator = validator;
+	}
+
+	public ValidationWarmUpReport warmUp(Collection<HandlerMethod> handlerMethods) {
+		long start = System.nanoTime();
+		Set<Class<?>> types = new LinkedHashSet<>();
+		Map<Class<?>, Set<List<Class<?>>>> validationGroups = new LinkedHashMap<>();
+		for (HandlerMethod handlerMethod : handlerMethods) {
+			Class<?> beanType = ClassUtils.getUserClass(handlerMethod.getBeanType());
+			Method method = handlerMethod.getMethod();
+			validator.getConstraintsForClass(beanType).getConstraintsForMethod(method.getName(), method.getParameterTypes());
+
+			for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+				visit(ResolvableType.forMethodParameter(parameter), types);
+
+				List<Class<?>> groups = validationGroups(parameter);
+				if (!groups.isEmpty()) {
+					validationGroups.computeIfAbsent(parameter.getParameterType(), type -> new LinkedHashSet<>()).add(groups);
+				}
+			}
+		}
+
+		ValidationWarmUpReport report = new ValidationWarmUpReport(
+			handlerMethods.size(),
+			Collections.unmodifiableSet(types),
+			Collections.unmodifiableMap(validationGroups),
+			Duration.ofNanos(System.nanoTime() - start)
+		);
+		log.info("Validation metadata warm-up: {} handler methods, {} types in {} ms",
+			report.handlerMethods(), report.types().size(), report.elapsed().toMillis());
+
+		lastReport = report;
+		return report;
+	}
+
+	public ValidationWarmUpReport getLastReport() {
+		return lastReport;
+	}
+
+	// @Valid는 Default 그룹이므로 그룹 클래스를 지정한 힌트만 모은다
+	private static List<Class<?>> validationGroups(MethodParameter parameter) {
+		for (Annotation annotation : parameter.getParameterAnnotations()) {
+			Object[] hints = ValidationAnnotationUtils.determineValidationHints(annotation);
+			if (hints != null && hints.length > 0 && Arrays.stream(hints).allMatch(Class.class::isInstance)) {
+				return Arrays.stream(hints).<Class<?>>map(hint -> (Class<?>)hint).toList();
+			}
+		}
+
+		return List.of();
+	}
+
+	// List<UserDto>처럼 제네릭 인자도 따라가며, 제약조건이 있는 타입은 cascade된 프로퍼티까지 재귀로 방문한다
+	private void visit(ResolvableType type, Set<Class<?>> types) {
+		for (ResolvableType generic : type.getGenerics()) {
+			visit(generic, types);
+		}
+
+		Class<?> clazz = type.resolve();
+		if (clazz == null || !isApplicationType(clazz) || !types.add(clazz)) {
+			return;
+		}
+
+		BeanDescriptor descriptor = validator.getConstraintsForClass(clazz);
+		for (PropertyDescriptor property : descriptor.getConstrainedProperties()) {
+			if (!isCascaded(property)) {
+				continue;
+			}
+
+			Field field = ReflectionUtils.findField(clazz, property.getPropertyName());
+			if (field != null) {
+				visit(ResolvableType.forField(field, type), types);
+			}
+		}
+	}
+
+	private static boolean isCascaded(PropertyDescriptor property) {
+		if (property.isCascaded()) {
+			return true;
+		}
+
+		for (ContainerElementTypeDescriptor element : property.getConstrainedContainerElementTypes()) {
+			if (element.isCascaded()) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean isApplicationType(Class<?> clazz) {
+		if (clazz.isPrimitive() || clazz.isArray() || clazz.isEnum()) {
+			return false;
+		}
+
+		String name = clazz.getName();
+		return !name.startsWith("java.")
+			&& !name.startsWith("javax.")
+			&& !name.startsWith("jakarta.")
+			&& !name.startsWith("org.springframework.");
+	}
+}
@@ -0,0 +1,40 @@
+package seunghun.springvalidation.warmup;
+
+import jakarta.validation.Validator;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import seunghun.springvalidation.plan.ConstraintPlanAnalyzer;
+
+@Configuration(proxyBeanMethods = false)
+public class ValidationWarmUpConfig {
+	@Bean
+	ValidationWarmUp validationWarmUp(Validator validator) {
+		return new ValidationWarmUp(validator);
+	}
+
+	// ApplicationRunner는 ApplicationReadyEvent(readiness 전환) 이전에 실행된다
+	@Bean
+	ApplicationRunner validationWarmUpRunner(
+		ValidationWarmUp validationWarmUp,
+		@Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping handlerMapping,
+		ObjectProvider<ConstraintPlanAnalyzer> constraintPlanAnalyzer,
+		@Value("${validation.warm-up.enabled:true}") boolean enabled
+	) {
+		return args -> {
+			if (enabled) {
+				ValidationWarmUpReport report = validationWarmUp.warmUp(handlerMapping.getHandlerMethods().values());
+				constraintPlanAnalyzer.ifAvailable(analyzer -> {
+					analyzer.analyze(report.types());
+					analyzer.analyzeGroups(report.validationGroups());
+				});
+			}
+		};
+	}
+}
@@ -0,0 +1,19 @@
+package seunghun.springvalidation.warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @param handlerMethods 메타데이터를 만든 핸들러 메서드 수
+ * @param types 파라미터와 cascade를 따라가며 메타데이터를 만든 타입
+ * @param validationGroups 파라미터 타입별로 {@code @Validated}에 지정된 그룹 목록
+ */
+public record ValidationWarmUpReport(
+	int handlerMethods,
+	Set<Class<?>> types,
+	Map<Class<?>, Set<List<Class<?>>>> validationGroups,
+	Duration elapsed
+) {
+}
@@ -0,0 +1,179 @@
+package seunghun.springvalidation.alloc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import com.sun.management.ThreadMXBean;
+
+import seunghun.springvalidation.handle.ValidationTestController;
+import seunghun.springvalidation.validation.constraints.ConstraintsController;
+import seunghun.springvalidation.validation.other.OtherController;
+import seunghun.springvalidation.validation.valid.ValidController;
+import seunghun.springvalidation.validation.validated.ValidatedController;
+
+/**
+ * 엔드포인트별 요청 한 건이 할당하는 바이트를 정상/위반 입력으로 나눠 재고, allocation-budgets.properties의 예산을 넘으면 실패한다.
+ * 워밍업 뒤 여러 번 잰 값 중 최솟값을 사용해 JIT/캐시 초기화와 우연한 잡음을 뺀다.
+ */
+@WebMvcTest({
+	ValidController.class,
+	ValidatedController.class,
+	ConstraintsController.class,
+	OtherController.class,
+	ValidationTestController.class
+})
+class AllocationBudgetTest {
+	private static final Logger log = LoggerFactory.getLogger(AllocationBudgetTest.class);
+	private static final int WARM_UP_REQUESTS = 50;
+	private static final int MEASURED_REQUESTS = 20;
+	private static final ThreadMXBean THREADS = (ThreadMXBean)ManagementFactory.getThreadMXBean();
+	private static final Properties BUDGETS = new Properties();
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@BeforeAll
+	static void setUp() throws IOException {
+		assumeTrue(THREADS.isThreadAllocatedMemorySupported(), "thread allocated bytes are not supported by this JVM");
+		THREADS.setThreadAllocatedMemoryEnabled(true);
+
+		try (InputStream in = AllocationBudgetTest.class.getResourceAsStream("/allocation-budgets.properties")) {
+			BUDGETS.load(in);
+		}
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("scenarios")
+	void allocationWithinBudget(String scenario, RequestBuilder request, int expectedStatus) throws Exception {
+		String budget = BUDGETS.getProperty(scenario);
+		assertThat(budget).as("allocation budget for " + scenario).isNotNull();
+
+		for (int i = 0; i < WARM_UP_REQUESTS; i++) {
+			mockMvc.perform(request).andExpect(status().is(expectedStatus));
+		}
+
+		long allocated = Long.MAX_VALUE;
+		for (int i = 0; i < MEASURED_REQUESTS; i++) {
+			long before = THREADS.getCurrentThreadAllocatedBytes();
+			mockMvc.perform(request);
+			allocated = Math.min(allocated, THREADS.getCurrentThreadAllocatedBytes() - before);
+		}
+
+		long budgetBytes = Long.parseLong(budget) * 1024;
+		log.info("{}: {} KiB allocated per request (budget {} KiB)", scenario, allocated / 1024, budget);
+		assertThat(allocated).as("bytes allocated per request for " + scenario).isLessThanOrEqualTo(budgetBytes);
+	}
+
+	static Stream<Arguments> scenarios() {
+		String validContent = "{\"user\":{\"name\":\"seunghun\",\"age\":10},\"content\":\"hello\"}";
+		String invalidContent = "{\"user\":{\"name\":\"\",\"age\":5},\"content\":\"\"}";
+
+		return Stream.of(
+			// @Valid: 모든 위반이 400
+			scenario("valid.request-param.valid", get("/valid/request-param").queryParam("age", "10").queryParam("name", "seunghun"), 200),
+			scenario("valid.request-param.invalid", get("/valid/request-param").queryParam("age", "-1").queryParam("name", "seunghun"), 400),
+			scenario("valid.model-request-param.valid", get("/valid/model/request-param").queryParam("age", "10").queryParam("name", "seunghun"), 200),
+			scenario("valid.model-request-param.invalid", get("/valid/model/request-param").queryParam("age", "-1").queryParam("name", "seunghun"), 400),
+			scenario("valid.request-body.valid", json("/valid/request-body", validContent), 200),
+			scenario("valid.request-body.invalid", json("/valid/request-body", invalidContent), 400),
+			scenario("valid.request-body-create.valid", json("/valid/request-body/create", validContent), 200),
+			scenario("valid.request-body-create.invalid", json("/valid/request-body/create", invalidContent), 400),
+			scenario("valid.request-body-update.valid", put("/valid/request-body").content(validContent).contentType("application/json"), 200),
+			scenario("valid.request-body-update.invalid", put("/valid/request-body").content(invalidContent).contentType("application/json"), 400),
+			scenario("valid.path-variable.valid", get("/valid/path-variable/{name}/{age}", "seunghun", "10"), 200),
+			scenario("valid.path-variable.invalid", get("/valid/path-variable/{name}/{age}", "seunghun", "-1"), 400),
+			scenario("valid.model-path-variable.valid", get("/valid/model/path-variable/{name}/{age}", "seunghun", "10"), 200),
+			scenario("valid.model-path-variable.invalid", get("/valid/model/path-variable/{name}/{age}", "seunghun", "-1"), 400),
+
+			// @Validated: 모델/본문은 검증하지 않으므로 위반 입력도 200
+			scenario("validated.request-param.valid", get("/validated/request-param").queryParam("age", "10").queryParam("name", "seunghun"), 200),
+			scenario("validated.request-param.invalid", get("/validated/request-param").queryParam("age", "-1").queryParam("name", "seunghun"), 400),
+			scenario("validated.model-request-param.valid", get("/validated/model/request-param").queryParam("age", "10").queryParam("name", "seunghun"), 200),
+			scenario("validated.model-request-param.invalid", get("/validated/model/request-param").queryParam("age", "-1").queryParam("name", "seunghun"), 200),
+			scenario("validated.request-body.valid", json("/validated/request-body", validContent), 200),
+			scenario("validated.request-body.invalid", json("/validated/request-body", invalidContent), 200),
+			scenario("validated.path-variable.valid", get("/validated/path-variable/{name}/{age}", "seunghun", "10"), 200),
+			scenario("validated.path-variable.invalid", get("/validated/path-variable/{name}/{age}", "seunghun", "-1"), 400),
+			scenario("validated.model-path-variable.valid", get("/validated/model/path-variable/{name}/{age}", "seunghun", "10"), 200),
+			scenario("validated.model-path-variable.invalid", get("/validated/model/path-variable/{name}/{age}", "seunghun", "-1"), 200),
+
+			// 제약조건만: 파라미터 제약조건은 내장 메서드 검증으로 400
+			scenario("constraints.request-param.valid", get("/constraints/request-param").queryParam("age", "10").queryParam("name", "seunghun"), 200),
+			scenario("constraints.request-param.invalid", get("/constraints/request-param").queryParam("age", "-1").queryParam("name", "seunghun"), 400),
+			scenario("constraints.model-request-param.valid", get("/constraints/model/request-param").queryParam("age", "10").queryParam("name", "seunghun"), 200),
+			scenario("constraints.model-request-param.invalid", get("/constraints/model/request-param").queryParam("age", "-1").queryParam("name", "seunghun"), 200),
+			scenario("constraints.request-body.valid", json("/constraints/request-body", validContent), 200),
+			scenario("constraints.request-body.invalid", json("/constraints/request-body", invalidContent), 200),
+			scenario("constraints.path-variable.valid", get("/constraints/path-variable/{name}/{age}", "seunghun", "10"), 200),
+			scenario("constraints.path-variable.invalid", get("/constraints/path-variable/{name}/{age}", "seunghun", "-1"), 400),
+			scenario("constraints.model-path-variable.valid", get("/constraints/model/path-variable/{name}/{age}", "seunghun", "10"), 200),
+			scenario("constraints.model-path-variable.invalid", get("/constraints/model/path-variable/{name}/{age}", "seunghun", "-1"), 200),
+
+			scenario("other.json.valid", json("/other/json", "{\"name\":\"seunghun\",\"age\":10}"), 200),
+			scenario("other.json.invalid", json("/other/json", "{ invalid json }"), 400),
+
+			// GlobalExceptionHandler
+			scenario("handle.hello.valid", get("/handle/api/test/hello"), 200),
+			scenario("handle.single-param.valid", get("/handle/api/test/single-param").queryParam("age", "10"), 200),
+			scenario("handle.single-param.invalid", get("/handle/api/test/single-param").queryParam("age", "5"), 400),
+			scenario("handle.multiple-param.valid", get("/handle/api/test/multiple-param").queryParam("page", "1").queryParam("size", "10").queryParam("keyword", "spring"), 200),
+			scenario("handle.multiple-param.invalid", get("/handle/api/test/multiple-param").queryParam("page", "0").queryParam("size", "101").queryParam("keyword", ""), 400),
+			scenario("handle.request-body.valid", json("/handle/api/test/request-body", "{\"name\":\"seunghun\",\"age\":20}"), 200),
+			scenario("handle.request-body.invalid", json("/handle/api/test/request-body", "{\"name\":\"  \",\"age\":5}"), 400),
+			scenario("handle.nested.valid", json("/handle/api/test/nested", "{\"user\":{\"name\":\"seunghun\",\"age\":20},\"content\":\"hello\"}"), 200),
+			scenario("handle.nested.invalid", json("/handle/api/test/nested", "{\"user\":{\"name\":\"\",\"age\":5},\"content\":\"\"}"), 400),
+			scenario("handle.nested-list.valid", json("/handle/api/test/nested-list", "{\"name\":\"group\",\"users\":[{\"name\":\"a\",\"age\":20},{\"name\":\"b\",\"age\":30}]}"), 200),
+			scenario("handle.nested-list.invalid", json("/handle/api/test/nested-list", "{\"name\":\"\",\"users\":[{\"name\":\"\",\"age\":5},{\"name\":\"b\",\"age\":30}]}"), 400),
+			// @ValidationResultMode: 위반도 예외 없이 400으로 응답
+			scenario("handle.result-single-param.valid", get("/handle/api/test/result/single-param").queryParam("age", "10"), 200),
+			scenario("handle.result-single-param.invalid", get("/handle/api/test/result/single-param").queryParam("age", "5"), 400),
+			scenario("handle.result-request-body.valid", json("/handle/api/test/result/request-body", "{\"name\":\"seunghun\",\"age\":20}"), 200),
+			scenario("handle.result-request-body.invalid", json("/handle/api/test/result/request-body", "{\"name\":\"  \",\"age\":5}"), 400),
+			scenario("handle.result-nested-list.valid", json("/handle/api/test/result/nested-list", "{\"name\":\"group\",\"users\":[{\"name\":\"a\",\"age\":20},{\"name\":\"b\",\"age\":30}]}"), 200),
+			scenario("handle.result-nested-list.invalid", json("/handle/api/test/result/nested-list", "{\"name\":\"\",\"users\":[{\"name\":\"\",\"age\":5},{\"name\":\"b\",\"age\":30}]}"), 400),
+			scenario("handle.patch-request-body.valid", patch("/handle/api/test/request-body").content("{\"age\":20}").contentType("application/json"), 200),
+			scenario("handle.patch-request-body.invalid", patch("/handle/api/test/request-body").content("{\"name\":\"  \"}").contentType("application/json"), 400),
+			scenario("handle.patch-nested.valid", patch("/handle/api/test/nested").content("{\"user\":{\"age\":20}}").contentType("application/json"), 200),
+			scenario("handle.patch-nested.invalid", patch("/handle/api/test/nested").content("{\"user\":{\"age\":5}}").contentType("application/json"), 400),
+			scenario("handle.patch-nested-list.valid", patch("/handle/api/test/nested-list").content("{\"users\":[{\"age\":20}]}").contentType("application/json"), 200),
+			scenario("handle.patch-nested-list.invalid", patch("/handle/api/test/nested-list").content("{\"users\":[{\"name\":\"\"}]}").contentType("application/json"), 400),
+			scenario("handle.users-list.valid", json("/handle/api/test/users-list", "[{\"name\":\"a\",\"age\":20},{\"name\":\"b\",\"age\":30}]"), 200),
+			scenario("handle.users-list.invalid", json("/handle/api/test/users-list", "[{\"name\":\"\",\"age\":5},{\"name\":\"b\",\"age\":30}]"), 400),
+			scenario("handle.bulk-users.valid", ndjson("/handle/api/test/bulk/users", "{\"name\":\"a\",\"age\":20}\n{\"name\":\"b\",\"age\":30}\n"), 200),
+			scenario("handle.bulk-users.invalid", ndjson("/handle/api/test/bulk/users", "{\"name\":\"\",\"age\":5}\n{\"name\":\"b\",\"age\":30}\n"), 200),
+			scenario("handle.bulk-contents.valid", ndjson("/handle/api/test/bulk/contents", "{\"user\":{\"name\":\"a\",\"age\":20},\"content\":\"hello\"}\n"), 200),
+			scenario("handle.bulk-contents.invalid", ndjson("/handle/api/test/bulk/contents", "{\"user\":{\"name\":\"\",\"age\":5},\"content\":\"\"}\n"), 200)
+		);
+	}
+
+	private static Arguments scenario(String name, RequestBuilder request, int expectedStatus) {
+		return Arguments.of(name, request, expectedStatus);
+	}
+
+	private static RequestBuilder json(String path, String content) {
+		return post(path).content(content).contentType("application/json");
+	}
+
+	private static RequestBuilder ndjson(String path, String content) {
+		return post(path).content(content).contentType("application/x-ndjson");
+	}
+}
@@ -0,0 +1,27 @@
+package seunghun.springvalidation.aot;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import seunghun.springvalidation.handle.dto.GroupDto;
+import seunghun.springvalidation.validation.valid.UserDto;
+
+/**
+ * DTO 리플렉션과 ValidationMessages 번들 힌트를 등록한다
+ */
+class ValidationRuntimeHintsTest {
+	RuntimeHints hints = new RuntimeHints();
+
+	@Test
+	void registersDtoAndMessageHints() {
+		new ValidationRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+		assertThat(RuntimeHintsPredicates.reflection().onType(GroupDto.class).withMemberCategory(MemberCategory.DECLARED_FIELDS)).accepts(hints);
+		assertThat(RuntimeHintsPredicates.reflection().onType(UserDto.class).withMemberCategory(MemberCategory.DECLARED_FIELDS)).accepts(hints);
+		assertThat(RuntimeHintsPredicates.resource().forBundle("org.hibernate.validator.ValidationMessages")).accepts(hints);
+	}
+}
@@ -0,0 +1,112 @@
+package seunghun.springvalidation.cascade;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.beanvalidation.LocaleContextMessageInterpolator;
+
+import seunghun.springvalidation.generated.GeneratedValidationConfig;
+import seunghun.springvalidation.generated.GeneratedValidatorAdapter;
+import seunghun.springvalidation.generated.GeneratedValidators;
+import seunghun.springvalidation.handle.dto.GroupDto;
+import seunghun.springvalidation.handle.dto.UserDto;
+
+/**
+ * 병렬 cascade 검증이 순차 검증과 같은 에러를 같은 순서로 만드는지 확인
+ * 전용 풀은 컨텍스트와 함께 종료되는지 확인
+ */
+class ParallelCascadeValidatorTest {
+	Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+	@Test
+	void sameErrorsAsSequentialValidation() {
+		List<UserDto> users = IntStream.range(0, 100)
+			.mapToObj(i -> i % 10 == 0 ? new UserDto("", 20) : new UserDto("user" + i, 20))
+			.toList();
+		GroupDto group = new GroupDto("", users);
+
+		ParallelCascadeValidator parallelCascadeValidator = new ParallelCascadeValidator(validator, ForkJoinPool.commonPool(), 10);
+		GeneratedValidatorAdapter adapter = new GeneratedValidatorAdapter(validator, GeneratedValidators.empty(), parallelCascadeValidator, validator, null);
+
+		BeanPropertyBindingResult parallelErrors = new BeanPropertyBindingResult(group, "groupDto");
+		adapter.validate(group, parallelErrors);
+
+		assertThat(parallelCascadeValidator.supports(group)).isTrue();
+		assertThat(parallelErrors.getFieldError("name")).isNotNull();
+		assertThat(parallelErrors.getFieldErrors())
+			.extracting(FieldError::getField)
+			.filteredOn(field -> field.startsWith("users"))
+			.containsExactly(
+				"users[0].name", "users[10].name", "users[20].name", "users[30].name", "users[40].name",
+				"users[50].name", "users[60].name", "users[70].name", "users[80].name", "users[90].name"
+			);
+	}
+
+	@Test
+	void dedicatedPoolIsShutDownWithContext() {
+		AtomicReference<ForkJoinPool> pool = new AtomicReference<>();
+		new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(ValidationAutoConfiguration.class))
+			.withUserConfiguration(GeneratedValidationConfig.class)
+			.withPropertyValues("validation.parallel-cascade.parallelism=2")
+			.run(context -> {
+				pool.set(context.getBean(ForkJoinPool.class));
+				assertThat(pool.get().getParallelism()).isEqualTo(2);
+				assertThat(pool.get().isShutdown()).isFalse();
+			});
+
+		assertThat(pool.get().isShutdown()).isTrue();
+	}
+
+	@Test
+	void smallCollectionIsNotParallel() {
+		GroupDto group = new GroupDto("group", List.of(new UserDto("", 20)));
+		ParallelCascadeValidator parallelCascadeValidator = new ParallelCascadeValidator(validator, ForkJoinPool.commonPool(), 10);
+
+		assertThat(parallelCascadeValidator.supports(group)).isFalse();
+	}
+
+	@Test
+	void workersUseRequestLocale() {
+		var configuration = Validation.byDefaultProvider().configure();
+		Validator localeValidator = configuration
+			.messageInterpolator(new LocaleContextMessageInterpolator(configuration.getDefaultMessageInterpolator()))
+			.buildValidatorFactory()
+			.getValidator();
+		GroupDto group = new GroupDto("group", IntStream.range(0, 20).mapToObj(i -> new UserDto("user" + i, -1)).toList());
+		ForkJoinPool pool = new ForkJoinPool(2);
+		ParallelCascadeValidator parallelCascadeValidator = new ParallelCascadeValidator(localeValidator, pool, 10);
+		GeneratedValidatorAdapter adapter = new GeneratedValidatorAdapter(localeValidator, GeneratedValidators.empty(), parallelCascadeValidator, localeValidator, null);
+
+		LocaleContextHolder.setLocale(Locale.GERMAN);
+		try {
+			BeanPropertyBindingResult errors = new BeanPropertyBindingResult(group, "groupDto");
+			adapter.validate(group, errors);
+
+			assertThat(parallelCascadeValidator.supports(group)).isTrue();
+			assertThat(errors.getFieldErrors())
+				.filteredOn(error -> "Positive".equals(error.getCode()))
+				.extracting(FieldError::getDefaultMessage)
+				.hasSize(20)
+				.containsOnly("muss größer als 0 sein");
+		} finally {
+			LocaleContextHolder.resetLocaleContext();
+			pool.shutdown();
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package seunghun.springvalidation.generated;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seunghun.springvalidation.handle.dto.ContentDto;
+import seunghun.springvalidation.handle.dto.ContentDtoGeneratedValidator;
+import seunghun.springvalidation.handle.dto.GroupDto;
+import seunghun.springvalidation.handle.dto.GroupDtoGeneratedValidator;
+import seunghun.springvalidation.handle.dto.UserDto;
+import seunghun.springvalidation.handle.dto.UserDtoGeneratedValidator;
+
+/**
+ * 애너테이션 프로세서가 생성한 검증기 동작 확인 테스트
+ */
+class GeneratedValidatorTest {
+	@Test
+	void userDto() {
+		UserDtoGeneratedValidator validator = new UserDtoGeneratedValidator();
+
+		assertThat(validator.isValid(new UserDto("seunghun", 10))).isTrue();
+		assertThat(validator.isValid(new UserDto("  ", 10))).isFalse();
+		assertThat(validator.isValid(new UserDto("seunghun", null))).isFalse();
+		assertThat(validator.isValid(new UserDto("seunghun", 9))).isFalse();
+	}
+
+	@Test
+	void contentDtoCascadesToUser() {
+		ContentDtoGeneratedValidator validator = new ContentDtoGeneratedValidator();
+
+		assertThat(validator.isValid(new ContentDto(new UserDto("seunghun", 20), "content"))).isTrue();
+		assertThat(validator.isValid(new ContentDto(null, "content"))).isTrue();
+		assertThat(validator.isValid(new ContentDto(new UserDto("", 20), "content"))).isFalse();
+	}
+
+	@Test
+	void groupDtoCascadesToUsers() {
+		GroupDtoGeneratedValidator validator = new GroupDtoGeneratedValidator();
+
+		assertThat(validator.isValid(new GroupDto("group", List.of(new UserDto("seunghun", 20))))).isTrue();
+		assertThat(validator.isValid(new GroupDto("group", List.of(new UserDto("seunghun", 20), new UserDto("함승훈", 1))))).isFalse();
+	}
+
+	@Test
+	void validatorsAreRegisteredAsServices() {
+		GeneratedValidators validators = GeneratedValidators.load(getClass().getClassLoader());
+
+		assertThat(validators.supports(UserDto.class)).isTrue();
+		assertThat(validators.supports(seunghun.springvalidation.validation.valid.UserDto.class)).isTrue();
+		assertThat(validators.supports(seunghun.springvalidation.validation.valid.ContentDto.class)).isTrue();
+	}
+}
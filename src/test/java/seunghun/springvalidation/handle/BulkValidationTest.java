@@ -0,0 +1,228 @@
+package seunghun.springvalidation.handle;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Validator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.DelegatingServletInputStream;
+import org.springframework.mock.web.DelegatingServletOutputStream;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seunghun.springvalidation.handle.stream.BulkValidation;
+import seunghun.springvalidation.handle.stream.BulkValidationArgumentResolver;
+
+/**
+ * NDJSON 본문을 줄 단위로 검증하고 줄마다 통과/실패 결과를 NDJSON으로 응답한다
+ */
+@WebMvcTest(
+	controllers = ValidationTestController.class,
+	properties = "validation.ingress.max-bytes=200B"
+)
+class BulkValidationTest {
+	@Autowired
+	MockMvc mockMvc;
+
+	@Autowired
+	ObjectMapper objectMapper;
+
+	@Autowired
+	Validator validator;
+
+	BulkValidationArgumentResolver bulkValidationArgumentResolver;
+
+	@BeforeEach
+	void setUp() {
+		bulkValidationArgumentResolver = new BulkValidationArgumentResolver(objectMapper, validator, new ValidationErrorMapper(RejectedValuePolicy.DEFAULT), 200);
+	}
+
+	@Test
+	void usersPerLineResults() throws Exception {
+		String body = """
+			{"name":"kim","age":20}
+			{"name":" ","age":20}
+
+			{"name":"lee","age":"x"}
+			{"name":
+			{"name":"park","age":5}
+			""";
+
+		List<JsonNode> results = perform("/handle/api/test/bulk/users", body);
+
+		assertThat(results).hasSize(5);
+		assertThat(results.get(0).get("line").asInt()).isEqualTo(1);
+		assertThat(results.get(0).get("valid").asBoolean()).isTrue();
+		assertThat(results.get(0).has("errors")).isFalse();
+
+		assertThat(results.get(1).get("valid").asBoolean()).isFalse();
+		assertThat(results.get(1).at("/errors/0/field").asText()).isEqualTo("name");
+
+		// 빈 줄은 건너뛰지만 줄 번호는 유지한다
+		assertThat(results.get(2).get("line").asInt()).isEqualTo(4);
+		assertThat(results.get(2).at("/errors/0/field").asText()).isEqualTo("age");
+
+		assertThat(results.get(3).get("line").asInt()).isEqualTo(5);
+		assertThat(results.get(3).get("valid").asBoolean()).isFalse();
+
+		assertThat(results.get(4).get("line").asInt()).isEqualTo(6);
+		assertThat(results.get(4).at("/errors/0/message").asText()).isEqualTo("나이는 10 이상이어야 합니다");
+	}
+
+	@Test
+	void contentsNestedErrors() throws Exception {
+		String body = """
+			{"content":"hello","user":{"name":"kim","age":20}}
+			{"content":"","user":{"name":"kim","age":20}}
+			""";
+
+		List<JsonNode> results = perform("/handle/api/test/bulk/contents", body);
+
+		assertThat(results).hasSize(2);
+		assertThat(results.get(0).get("valid").asBoolean()).isTrue();
+		assertThat(results.get(1).at("/errors/0/field").asText()).isEqualTo("content");
+	}
+
+	@Test
+	void bodyLargerThanMaxBytesIsReadLineByLine() throws Exception {
+		StringBuilder body = new StringBuilder();
+		for (int i = 0; i < 50; i++) {
+			body.append("{\"name\":\"user").append(i).append("\",\"age\":20}\n");
+		}
+		body.append("{\"name\":\"").append("a".repeat(300)).append("\",\"age\":20}\n");
+
+		List<JsonNode> results = perform("/handle/api/test/bulk/users", body.toString());
+
+		assertThat(results).hasSize(51);
+		assertThat(results.subList(0, 50)).allMatch(result -> result.get("valid").asBoolean());
+		assertThat(results.get(50).at("/errors/0/field").asText()).isEqualTo("body");
+	}
+
+	@Test
+	void maxBytesCountsEncodedBytes() throws Exception {
+		// 한글은 UTF-8로 3바이트이므로 100자 남짓한 줄도 200바이트를 넘는다
+		String body = "{\"name\":\"" + "가".repeat(70) + "\",\"age\":20}\n"
+			+ "{\"name\":\"" + "가".repeat(50) + "\",\"age\":20}\n";
+
+		List<JsonNode> results = perform("/handle/api/test/bulk/users", body);
+
+		assertThat(results).hasSize(2);
+		assertThat(results.get(0).at("/errors/0/message").asText()).isEqualTo("한 줄은 최대 200바이트까지 허용됩니다");
+		assertThat(results.get(1).get("valid").asBoolean()).isTrue();
+	}
+
+	// 다음 입력을 기다리기 전에는 앞 줄의 결과를 내보낸다
+	@Test
+	void eachResultIsFlushedBeforeNextLineIsRead() throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		List<String> writtenBeforeSecondLine = new ArrayList<>();
+		InputStream secondLine = new InputStream() {
+			private final InputStream delegate = new ByteArrayInputStream("{\"name\":\" \",\"age\":20}\n".getBytes(StandardCharsets.UTF_8));
+			private boolean first = true;
+
+			@Override
+			public int read() throws IOException {
+				if (first) {
+					writtenBeforeSecondLine.add(response.getContentAsString(StandardCharsets.UTF_8));
+					first = false;
+				}
+
+				return delegate.read();
+			}
+		};
+		InputStream body = new SequenceInputStream(new ByteArrayInputStream("{\"name\":\"kim\",\"age\":20}\n".getBytes(StandardCharsets.UTF_8)), secondLine);
+		MockHttpServletRequest request = new MockHttpServletRequest() {
+			@Override
+			public ServletInputStream getInputStream() {
+				// 한 번에 읽을 수 있는 만큼만 읽어야 첫 줄을 처리하기 전에 둘째 줄을 읽지 않는다
+				return new DelegatingServletInputStream(body) {
+					@Override
+					public int read(byte[] buffer, int offset, int length) throws IOException {
+						return body.read(buffer, offset, length);
+					}
+				};
+			}
+		};
+
+		Method method = ValidationTestController.class.getMethod("bulkUsers", BulkValidation.class, HttpServletResponse.class);
+		BulkValidation<?> users = (BulkValidation<?>)bulkValidationArgumentResolver.resolveArgument(new MethodParameter(method, 0), null, new ServletWebRequest(request), null);
+		users.writeResults(response);
+
+		// NDJSON 클라이언트는 줄바꿈까지 받아야 한 줄을 처리할 수 있다
+		assertThat(writtenBeforeSecondLine).singleElement().asString().contains("\"line\":1").endsWith("\n");
+		assertThat(response.getContentAsString(StandardCharsets.UTF_8).split("\n")).hasSize(2);
+	}
+
+	// 읽어 둔 줄은 모아서 내보내고, 입력을 기다리기 전에만 flush한다
+	@Test
+	void resultsOfBufferedLinesAreFlushedTogether() throws Exception {
+		AtomicInteger flushes = new AtomicInteger();
+		MockHttpServletResponse response = new MockHttpServletResponse() {
+			@Override
+			public ServletOutputStream getOutputStream() {
+				ServletOutputStream outputStream = super.getOutputStream();
+				return new DelegatingServletOutputStream(outputStream) {
+					@Override
+					public void flush() throws IOException {
+						flushes.incrementAndGet();
+						super.flush();
+					}
+				};
+			}
+		};
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setContent("{\"name\":\"kim\",\"age\":20}\r\n".repeat(100).getBytes(StandardCharsets.UTF_8));
+
+		Method method = ValidationTestController.class.getMethod("bulkUsers", BulkValidation.class, HttpServletResponse.class);
+		BulkValidation<?> users = (BulkValidation<?>)bulkValidationArgumentResolver.resolveArgument(new MethodParameter(method, 0), null, new ServletWebRequest(request), null);
+		users.writeResults(response);
+
+		assertThat(response.getContentAsString(StandardCharsets.UTF_8).split("\n"))
+			.hasSize(100)
+			.allSatisfy(line -> assertThat(line).contains("\"valid\":true"));
+		assertThat(flushes.get()).isLessThanOrEqualTo(2);
+	}
+
+	private List<JsonNode> perform(String path, String body) throws Exception {
+		String response = mockMvc.perform(post(path)
+				.content(body)
+				.contentType(MediaType.APPLICATION_NDJSON))
+			.andExpect(status().isOk())
+			.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+			.andReturn()
+			.getResponse()
+			.getContentAsString(StandardCharsets.UTF_8);
+
+		List<JsonNode> results = new ArrayList<>();
+		for (String line : response.split("\n")) {
+			results.add(objectMapper.readTree(line));
+		}
+
+		return results;
+	}
+}
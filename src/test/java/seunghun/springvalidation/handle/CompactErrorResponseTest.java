@@ -0,0 +1,55 @@
+package seunghun.springvalidation.handle;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Accept에 압축 형식을 지정하면 메시지 대신 필드 테이블과 에러 코드로 응답한다
+ */
+@WebMvcTest(ValidationTestController.class)
+class CompactErrorResponseTest {
+	@Autowired
+	MockMvc mockMvc;
+
+	@Test
+	void resultModeCompact() throws Exception {
+		mockMvc.perform(post("/handle/api/test/result/request-body")
+				.content("{\"name\":\"  \",\"age\":null}")
+				.contentType("application/json")
+				.accept(CompactErrorResponse.MEDIA_TYPE))
+			.andExpect(status().isBadRequest())
+			.andExpect(content().contentTypeCompatibleWith(CompactErrorResponse.MEDIA_TYPE))
+			.andExpect(jsonPath("$.f", containsInAnyOrder("name", "age")))
+			.andExpect(jsonPath("$.e[*][1]", containsInAnyOrder("NotBlank", "NotNull")))
+			.andExpect(jsonPath("$.t").value(false))
+			.andExpect(jsonPath("$.message").doesNotExist());
+	}
+
+	@Test
+	void exceptionHandlerCompact() throws Exception {
+		mockMvc.perform(post("/handle/api/test/users-list")
+				.content("[{\"name\":\"\",\"age\":5}]")
+				.contentType("application/json")
+				.accept(CompactErrorResponse.MEDIA_TYPE))
+			.andExpect(status().isBadRequest())
+			.andExpect(content().contentTypeCompatibleWith(CompactErrorResponse.MEDIA_TYPE))
+			.andExpect(jsonPath("$.f", containsInAnyOrder("[0].name", "[0].age")))
+			.andExpect(jsonPath("$.e[*][1]", containsInAnyOrder("NotBlank", "Min")));
+	}
+
+	@Test
+	void defaultFormatWithoutAccept() throws Exception {
+		mockMvc.perform(post("/handle/api/test/request-body")
+				.content("{\"name\":\"  \",\"age\":10}")
+				.contentType("application/json"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.message").value("입력값 검증에 실패했습니다"))
+			.andExpect(jsonPath("$.errors[0].code").doesNotExist());
+	}
+}
@@ -0,0 +1,139 @@
+package seunghun.springvalidation.handle;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 같은 위반 시그니처는 한 번만 직렬화하고 timestamp, path, rejectedValue만 바꿔 끼운다
+ */
+@WebMvcTest(ValidationTestController.class)
+class ErrorResponseCacheTest {
+	@Autowired
+	MockMvc mockMvc;
+
+	@Autowired
+	ObjectMapper objectMapper;
+
+	@Autowired
+	ErrorResponseCache errorResponseCache;
+
+	@Test
+	void cachedBodyMatchesDirectSerialization() throws Exception {
+		ErrorResponseCache cache = new ErrorResponseCache(objectMapper, 10);
+		List<ErrorDetail> errors = List.of(new ErrorDetail("name", "", "공백일 수 없습니다", "NotBlank"));
+
+		for (int second = 0; second < 3; second++) {
+			ErrorResponse response = new ErrorResponse("입력값 검증에 실패했습니다", LocalDateTime.of(2025, 1, 1, 0, 0, second), "/path", errors, false);
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			cache.write(response, "/path", out);
+
+			assertThat(out.toByteArray()).isEqualTo(objectMapper.writeValueAsBytes(response));
+		}
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.hits()).isEqualTo(2);
+	}
+
+	@Test
+	void pathAndRejectedValueAreNotPartOfKey() throws Exception {
+		ErrorResponseCache cache = new ErrorResponseCache(objectMapper, 10);
+		List<ErrorResponse> responses = List.of(
+			response("/users/1", 5),
+			response("/users/2", "여섯"),
+			response("/users/3", null)
+		);
+
+		for (ErrorResponse response : responses) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			cache.write(response, "/users/{id}", out);
+
+			assertThat(out.toByteArray()).isEqualTo(objectMapper.writeValueAsBytes(response));
+		}
+		// null인 rejectedValue는 끼워 넣을 자리가 없으므로 따로 둔다
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.hits()).isEqualTo(1);
+	}
+
+	@Test
+	void differentRoutePatternIsSeparateEntry() throws Exception {
+		ErrorResponseCache cache = new ErrorResponseCache(objectMapper, 10);
+
+		cache.write(response("/path", 5), "/a", new ByteArrayOutputStream());
+		cache.write(response("/path", 5), "/b", new ByteArrayOutputStream());
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.hits()).isZero();
+	}
+
+	@Test
+	void evictsLeastRecentlyUsed() throws Exception {
+		ErrorResponseCache cache = new ErrorResponseCache(objectMapper, 2);
+
+		cache.write(response("/path", 5), "/a", new ByteArrayOutputStream());
+		cache.write(response("/path", 5), "/b", new ByteArrayOutputStream());
+		cache.write(response("/path", 5), "/a", new ByteArrayOutputStream());
+		cache.write(response("/path", 5), "/c", new ByteArrayOutputStream());
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.hits()).isEqualTo(1);
+
+		// /a는 최근에 사용했으므로 남고 /b가 버려졌다
+		cache.write(response("/path", 5), "/a", new ByteArrayOutputStream());
+		cache.write(response("/path", 5), "/b", new ByteArrayOutputStream());
+		assertThat(cache.hits()).isEqualTo(2);
+	}
+
+	@Test
+	void repeatedRequestsKeepFreshTimestamp() throws Exception {
+		for (int i = 0; i < 2; i++) {
+			mockMvc.perform(post("/handle/api/test/request-body")
+					.content("{\"name\":\"  \",\"age\":10}")
+					.contentType("application/json"))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message").value("입력값 검증에 실패했습니다"))
+				.andExpect(jsonPath("$.timestamp").isNotEmpty())
+				.andExpect(jsonPath("$.path").value("/handle/api/test/request-body"))
+				.andExpect(jsonPath("$.errors[0].field").value("name"));
+		}
+	}
+
+	@Test
+	void exceptionHandlerUsesCache() throws Exception {
+		// 같은 컨텍스트를 쓰는 다른 테스트가 이미 항목을 만들었을 수 있으므로 첫 요청 뒤부터 센다
+		performUsersList(1);
+		int size = errorResponseCache.size();
+		long hits = errorResponseCache.hits();
+
+		performUsersList(2);
+		performUsersList(3);
+
+		assertThat(errorResponseCache.size()).isEqualTo(size);
+		assertThat(errorResponseCache.hits()).isEqualTo(hits + 2);
+	}
+
+	private void performUsersList(int age) throws Exception {
+		mockMvc.perform(post("/handle/api/test/users-list")
+				.content("[{\"name\":\"kim\",\"age\":" + age + "}]")
+				.contentType("application/json"))
+			.andExpect(status().isBadRequest())
+			.andExpect(content().contentTypeCompatibleWith("application/json"))
+			.andExpect(jsonPath("$.timestamp").isNotEmpty())
+			.andExpect(jsonPath("$.errors.length()").value(1))
+			.andExpect(jsonPath("$.errors[0].field").value("[0].age"))
+			.andExpect(jsonPath("$.errors[0].rejectedValue").value(age));
+	}
+
+	private static ErrorResponse response(String path, Object age) {
+		return ErrorResponse.of("입력값 검증에 실패했습니다", path, List.of(new ErrorDetail("age", age, "10 이상이어야 합니다", "Min")), false);
+	}
+}
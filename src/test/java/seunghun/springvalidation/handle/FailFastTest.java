@@ -0,0 +1,52 @@
+package seunghun.springvalidation.handle;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * {@code @FailFast} 핸들러는 첫 번째 위반만 응답하고, 보고하지 않은 위반이 있을 때만 truncated를 표시한다
+ */
+@WebMvcTest(ValidationTestController.class)
+class FailFastTest {
+	@Autowired
+	MockMvc mockMvc;
+
+	@Test
+	void multipleParamFailFast() throws Exception {
+		mockMvc.perform(get("/handle/api/test/multiple-param")
+				.queryParam("page", "0")
+				.queryParam("size", "0")
+				.queryParam("keyword", ""))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.errors", hasSize(1)))
+			.andExpect(jsonPath("$.truncated").value(true));
+	}
+
+	@Test
+	void multipleParamSingleViolationIsNotTruncated() throws Exception {
+		mockMvc.perform(get("/handle/api/test/multiple-param")
+				.queryParam("page", "1")
+				.queryParam("size", "0")
+				.queryParam("keyword", "spring"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.errors", hasSize(1)))
+			.andExpect(jsonPath("$.errors[0].field").value("size"))
+			.andExpect(jsonPath("$.truncated").value(false));
+	}
+
+	@Test
+	void nestedIsNotFailFast() throws Exception {
+		mockMvc.perform(post("/handle/api/test/nested")
+				.content("{\"user\":{\"name\":\"\",\"age\":5},\"content\":\"\"}")
+				.contentType("application/json"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.errors", hasSize(3)))
+			.andExpect(jsonPath("$.truncated").value(false));
+	}
+}
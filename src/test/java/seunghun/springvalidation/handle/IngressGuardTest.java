@@ -0,0 +1,110 @@
+package seunghun.springvalidation.handle;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seunghun.springvalidation.ingress.IngressLimitExceededException;
+
+/**
+ * 요소 수, 중첩 깊이, 본문 크기 제한을 넘으면 본문을 끝까지 읽지 않고 413 ErrorResponse로 응답한다
+ */
+@WebMvcTest(
+	controllers = ValidationTestController.class,
+	properties = {
+		"validation.ingress.max-elements=2",
+		"validation.ingress.max-depth=5",
+		"validation.ingress.max-bytes=300B"
+	}
+)
+class IngressGuardTest {
+	record TagsDto(List<String> tags, int[] scores) {
+	}
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@Autowired
+	ObjectMapper objectMapper;
+
+	@Test
+	void nestedListTooManyElements() throws Exception {
+		mockMvc.perform(post("/handle/api/test/nested-list")
+				.content("{\"name\":\"group\",\"users\":[{\"name\":\"a\",\"age\":20},{\"name\":\"b\",\"age\":20},{\"name\":\"c\",\"age\":20}]}")
+				.contentType("application/json"))
+			.andExpect(status().is(413))
+			.andExpect(jsonPath("$.message").value("요청 크기 제한을 초과했습니다"))
+			.andExpect(jsonPath("$.errors[0].field").value("users"));
+	}
+
+	@Test
+	void usersListTooManyElements() throws Exception {
+		mockMvc.perform(post("/handle/api/test/users-list")
+				.content("[{\"name\":\"a\",\"age\":20},{\"name\":\"b\",\"age\":20},{\"name\":\"c\",\"age\":20}]")
+				.contentType("application/json"))
+			.andExpect(status().is(413))
+			.andExpect(jsonPath("$.errors[0].field").value("users"));
+	}
+
+	@Test
+	void tooDeep() throws Exception {
+		mockMvc.perform(post("/handle/api/test/nested-list")
+				.content("{\"name\":\"group\",\"extra\":{\"a\":{\"b\":{\"c\":{\"d\":{}}}}}}")
+				.contentType("application/json"))
+			.andExpect(status().is(413))
+			.andExpect(jsonPath("$.errors[0].field").value("body"));
+	}
+
+	@Test
+	void tooLarge() throws Exception {
+		mockMvc.perform(post("/handle/api/test/request-body")
+				.content("{\"name\":\"" + "a".repeat(400) + "\",\"age\":20}")
+				.contentType("application/json"))
+			.andExpect(status().is(413))
+			.andExpect(jsonPath("$.errors[0].field").value("body"));
+	}
+
+	@Test
+	void withinLimits() throws Exception {
+		mockMvc.perform(post("/handle/api/test/nested-list")
+				.content("{\"name\":\"group\",\"users\":[{\"name\":\"a\",\"age\":20},{\"name\":\"b\",\"age\":20}]}")
+				.contentType("application/json"))
+			.andExpect(status().isOk());
+	}
+
+	@Test
+	void scalarCollectionsAreLimited() {
+		assertThatThrownBy(() -> objectMapper.readValue("[\"a\",\"b\",\"c\"]", new TypeReference<List<String>>() {
+		}))
+			.hasRootCauseInstanceOf(IngressLimitExceededException.class)
+			.rootCause()
+			.hasMessage("body: 요소는 최대 2개까지 허용됩니다");
+
+		assertThatThrownBy(() -> objectMapper.readValue("{\"tags\":[\"a\",\"b\",\"c\"]}", TagsDto.class))
+			.hasRootCauseMessage("tags: 요소는 최대 2개까지 허용됩니다");
+
+		assertThatThrownBy(() -> objectMapper.readValue("{\"scores\":[1,2,3]}", TagsDto.class))
+			.hasRootCauseMessage("scores: 요소는 최대 2개까지 허용됩니다");
+
+		assertThatThrownBy(() -> objectMapper.readValue("[\"a\",\"b\",\"c\"]", String[].class))
+			.hasRootCauseInstanceOf(IngressLimitExceededException.class);
+	}
+
+	@Test
+	void scalarCollectionsWithinLimits() throws Exception {
+		TagsDto tags = objectMapper.readValue("{\"tags\":[\"a\",\"b\"],\"scores\":[1,2]}", TagsDto.class);
+
+		assertThat(tags.tags()).containsExactly("a", "b");
+		assertThat(tags.scores()).containsExactly(1, 2);
+	}
+}
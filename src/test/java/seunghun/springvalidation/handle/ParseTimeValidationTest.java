@@ -0,0 +1,54 @@
+package seunghun.springvalidation.handle;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import seunghun.springvalidation.parsetime.ParseTimeValidationConfig;
+
+/**
+ * 역직렬화 중 검증에 실패해도 GlobalExceptionHandler와 같은 ErrorResponse 형식으로 응답한다
+ */
+@WebMvcTest(controllers = ValidationTestController.class, properties = "validation.parse-time.enabled=true")
+@Import(ParseTimeValidationConfig.class)
+class ParseTimeValidationTest {
+	@Autowired
+	MockMvc mockMvc;
+
+	@Test
+	void rootRecordInvalid() throws Exception {
+		mockMvc.perform(post("/handle/api/test/request-body")
+				.content("{\"name\":\"  \",\"age\":null}")
+				.contentType("application/json"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.message").value("입력값 검증에 실패했습니다"))
+			.andExpect(jsonPath("$.errors[*].field", containsInAnyOrder("name", "age")))
+			.andExpect(jsonPath("$.truncated").value(false));
+	}
+
+	@Test
+	void nestedRecordInvalidStopsReading() throws Exception {
+		mockMvc.perform(post("/handle/api/test/nested-list")
+				.content("{\"name\":\"group\",\"users\":[{\"name\":\"함승훈\",\"age\":20},{\"name\":\"함승훈\",\"age\":1}]}")
+				.contentType("application/json"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.errors", hasSize(1)))
+			.andExpect(jsonPath("$.errors[0].field").value("users[1].age"))
+			.andExpect(jsonPath("$.errors[0].message").value("나이는 10 이상이어야 합니다"))
+			.andExpect(jsonPath("$.truncated").value(true));
+	}
+
+	@Test
+	void validBody() throws Exception {
+		mockMvc.perform(post("/handle/api/test/nested")
+				.content("{\"user\":{\"name\":\"함승훈\",\"age\":20},\"content\":\"내용\"}")
+				.contentType("application/json"))
+			.andExpect(status().isOk());
+	}
+}
@@ -0,0 +1,100 @@
+package seunghun.springvalidation.handle;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import seunghun.springvalidation.parsetime.ParseTimeValidationConfig;
+
+/**
+ * PATCH 본문에 있는 프로퍼티만 검사하고, 없는 프로퍼티와 cascade는 건너뛴다.
+ * 역직렬화 중 검증이 켜져 있어도 없는 프로퍼티로 실패하지 않는다.
+ */
+@WebMvcTest(controllers = ValidationTestController.class, properties = "validation.parse-time.enabled=true")
+@Import(ParseTimeValidationConfig.class)
+class PartialBodyTest {
+	@Autowired
+	MockMvc mockMvc;
+
+	@Test
+	void absentPropertiesAreNotValidated() throws Exception {
+		mockMvc.perform(patch("/handle/api/test/request-body")
+				.content("{\"age\":20}")
+				.contentType("application/json"))
+			.andExpect(status().isOk())
+			.andExpect(content().string("name: null, age: 20"));
+	}
+
+	@Test
+	void presentPropertyIsValidated() throws Exception {
+		mockMvc.perform(patch("/handle/api/test/request-body")
+				.content("{\"name\":\"  \"}")
+				.contentType("application/json"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.message").value("입력값 검증에 실패했습니다"))
+			.andExpect(jsonPath("$.path").value("/handle/api/test/request-body"))
+			.andExpect(jsonPath("$.errors.length()").value(1))
+			.andExpect(jsonPath("$.errors[0].field").value("name"))
+			.andExpect(jsonPath("$.errors[0].rejectedValue").value("  "))
+			.andExpect(jsonPath("$.errors[0].message").value("이름은 필수입니다"))
+			// code는 압축 응답에만 포함된다
+			.andExpect(jsonPath("$.errors[0].code").doesNotExist());
+	}
+
+	@Test
+	void explicitNullIsValidated() throws Exception {
+		mockMvc.perform(patch("/handle/api/test/request-body")
+				.content("{\"age\":null}")
+				.contentType("application/json"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.errors[0].field").value("age"))
+			.andExpect(jsonPath("$.errors[0].rejectedValue").value(nullValue()))
+			.andExpect(jsonPath("$.errors[0].message").value("나이는 필수입니다"));
+	}
+
+	@Test
+	void absentCascadeIsSkipped() throws Exception {
+		mockMvc.perform(patch("/handle/api/test/nested")
+				.content("{\"content\":\"hello\"}")
+				.contentType("application/json"))
+			.andExpect(status().isOk())
+			.andExpect(content().string("content: hello, user: null"));
+	}
+
+	@Test
+	void presentCascadeValidatesOnlyPresentProperties() throws Exception {
+		mockMvc.perform(patch("/handle/api/test/nested")
+				.content("{\"user\":{\"age\":5}}")
+				.contentType("application/json"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.errors.length()").value(1))
+			.andExpect(jsonPath("$.errors[0].field").value("user.age"))
+			.andExpect(jsonPath("$.errors[0].rejectedValue").value(5))
+			.andExpect(jsonPath("$.errors[0].message").value("나이는 10 이상이어야 합니다"));
+	}
+
+	@Test
+	void listElementsUseIndexedPath() throws Exception {
+		mockMvc.perform(patch("/handle/api/test/nested-list")
+				.content("{\"users\":[{\"age\":20},{\"name\":\"\"}]}")
+				.contentType("application/json"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.errors.length()").value(1))
+			.andExpect(jsonPath("$.errors[0].field").value("users[1].name"))
+			.andExpect(jsonPath("$.errors[*].field", not(hasItem("name"))));
+	}
+
+	@Test
+	void nonObjectBodyIsRejected() throws Exception {
+		mockMvc.perform(patch("/handle/api/test/request-body")
+				.content("[]")
+				.contentType("application/json"))
+			.andExpect(status().isBadRequest());
+	}
+}
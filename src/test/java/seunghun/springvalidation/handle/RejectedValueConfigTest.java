@@ -0,0 +1,69 @@
+package seunghun.springvalidation.handle;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * 설정한 RejectedValuePolicy 빈이 예외 처리, 결과 모드, 스트리밍 경로에 모두 적용된다
+ */
+@WebMvcTest(
+	controllers = ValidationTestController.class,
+	properties = {
+		"validation.rejected-value.max-length=3",
+		"validation.rejected-value.fields[keyword]=OMIT"
+	}
+)
+@Import(RejectedValueConfig.class)
+class RejectedValueConfigTest {
+	private static final String BLANK_NAME = "{\"name\":\"      \",\"age\":20}";
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@Test
+	void exceptionHandlerUsesConfiguredPolicy() throws Exception {
+		mockMvc.perform(post("/handle/api/test/request-body")
+				.content(BLANK_NAME)
+				.contentType("application/json"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.errors[0].field").value("name"))
+			.andExpect(jsonPath("$.errors[0].rejectedValue").value("  …"));
+	}
+
+	@Test
+	void fieldModeAppliesToMethodParameters() throws Exception {
+		mockMvc.perform(get("/handle/api/test/multiple-param")
+				.queryParam("page", "1")
+				.queryParam("size", "10")
+				.queryParam("keyword", "      "))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.errors[0].field").value("keyword"))
+			.andExpect(jsonPath("$.errors[0].rejectedValue").value(nullValue()));
+	}
+
+	@Test
+	void resultModeUsesConfiguredPolicy() throws Exception {
+		mockMvc.perform(post("/handle/api/test/result/request-body")
+				.content(BLANK_NAME)
+				.contentType("application/json"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.errors[0].rejectedValue").value("  …"));
+	}
+
+	@Test
+	void streamingBodyUsesConfiguredPolicy() throws Exception {
+		mockMvc.perform(post("/handle/api/test/users-list")
+				.content("[" + BLANK_NAME + "]")
+				.contentType("application/json"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.errors[0].field").value("[0].name"))
+			.andExpect(jsonPath("$.errors[0].rejectedValue").value("  …"));
+	}
+}
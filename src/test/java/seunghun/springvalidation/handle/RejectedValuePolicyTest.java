@@ -0,0 +1,46 @@
+package seunghun.springvalidation.handle;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seunghun.springvalidation.handle.dto.UserDto;
+
+/**
+ * rejectedValue는 잘리거나 요약되고, 필드별로 다른 모드를 적용할 수 있다
+ */
+class RejectedValuePolicyTest {
+	RejectedValuePolicy policy = new RejectedValuePolicy(RejectedValueMode.CAPTURE, 5, Map.of("users.name", RejectedValueMode.OMIT));
+
+	@Test
+	void truncatesLongText() {
+		Object captured = policy.capture("content", "1234567890");
+
+		assertThat(captured).isEqualTo("1234…");
+		assertThat(policy.capture("content", captured)).isEqualTo(captured);
+	}
+
+	@Test
+	void summarizesCollectionsAndObjects() {
+		assertThat(policy.capture("users", List.of(1, 2, 3))).isEqualTo("List(size=3)");
+		assertThat(policy.capture("user", new UserDto("함승훈", 20))).isEqualTo("UserDto");
+		assertThat(policy.capture("age", 1)).isEqualTo(1);
+	}
+
+	@Test
+	void appliesFieldModeIgnoringIndexes() {
+		assertThat(policy.capture("users[3].name", "secret")).isNull();
+		assertThat(policy.capture("name", "secret")).isEqualTo("secr…");
+	}
+
+	@Test
+	void fullKeepsValue() {
+		RejectedValuePolicy full = new RejectedValuePolicy(RejectedValueMode.FULL, 5, Map.of());
+		UserDto user = new UserDto("함승훈", 20);
+
+		assertThat(full.capture("user", user)).isSameAs(user);
+	}
+}
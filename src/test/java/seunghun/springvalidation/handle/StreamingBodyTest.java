@@ -0,0 +1,71 @@
+package seunghun.springvalidation.handle;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * /users-list 스트리밍 검증 테스트
+ */
+@WebMvcTest(ValidationTestController.class)
+@TestPropertySource(properties = "validation.stream.error-budget=2")
+class StreamingBodyTest {
+	@Autowired
+	MockMvc mockMvc;
+
+	@Test
+	void usersList() throws Exception {
+		mockMvc.perform(post("/handle/api/test/users-list")
+				.content("[{\"name\":\"seunghun\",\"age\":20},{\"name\":\"함승훈\",\"age\":30}]")
+				.contentType("application/json"))
+			.andExpect(status().isOk())
+			.andExpect(content().string("users count: 2"));
+	}
+
+	@Test
+	void usersListInvalid() throws Exception {
+		mockMvc.perform(post("/handle/api/test/users-list")
+				.content("[{\"name\":\"seunghun\",\"age\":20},{\"name\":\"\",\"age\":20}]")
+				.contentType("application/json"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.errors", hasSize(1)))
+			.andExpect(jsonPath("$.errors[0].field").value("[1].name"));
+	}
+
+	// 에러 예산을 모두 사용하면 뒤쪽 요소(잘못된 JSON 포함)는 읽지 않음
+	@Test
+	void usersListStopsAtErrorBudget() throws Exception {
+		mockMvc.perform(post("/handle/api/test/users-list")
+				.content("[{\"name\":\"\",\"age\":5},{\"name\":\"\",\"age\":20}, { invalid json")
+				.contentType("application/json"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.errors", hasSize(2)))
+			.andExpect(jsonPath("$.errors[*].field", everyItem(startsWith("[0]."))))
+			.andExpect(jsonPath("$.truncated").value(true));
+	}
+
+	// 마지막 요소에서 에러가 정확히 예산만큼 쌓이면 건너뛴 요소가 없으므로 잘리지 않은 것이다
+	@Test
+	void usersListReachesErrorBudgetAtLastElement() throws Exception {
+		mockMvc.perform(post("/handle/api/test/users-list")
+				.content("[{\"name\":\"seunghun\",\"age\":20},{\"name\":\"\",\"age\":5}]")
+				.contentType("application/json"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.errors", hasSize(2)))
+			.andExpect(jsonPath("$.truncated").value(false));
+	}
+
+	@Test
+	void usersListNotArray() throws Exception {
+		mockMvc.perform(post("/handle/api/test/users-list")
+				.content("{\"name\":\"seunghun\",\"age\":20}")
+				.contentType("application/json"))
+			.andExpect(status().isBadRequest());
+	}
+}
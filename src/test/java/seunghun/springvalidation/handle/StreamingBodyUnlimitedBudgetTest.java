@@ -0,0 +1,40 @@
+package seunghun.springvalidation.handle;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * 에러 예산이 0 이하이면 제한 없이 끝까지 검증한다
+ */
+@WebMvcTest(ValidationTestController.class)
+@TestPropertySource(properties = "validation.stream.error-budget=0")
+class StreamingBodyUnlimitedBudgetTest {
+	@Autowired
+	MockMvc mockMvc;
+
+	@Test
+	void validBodyIsAccepted() throws Exception {
+		mockMvc.perform(post("/handle/api/test/users-list")
+				.content("[{\"name\":\"seunghun\",\"age\":20},{\"name\":\"함승훈\",\"age\":30}]")
+				.contentType("application/json"))
+			.andExpect(status().isOk())
+			.andExpect(content().string("users count: 2"));
+	}
+
+	@Test
+	void allErrorsAreReported() throws Exception {
+		mockMvc.perform(post("/handle/api/test/users-list")
+				.content("[{\"name\":\"\",\"age\":20},{\"name\":\"\",\"age\":20},{\"name\":\"\",\"age\":20}]")
+				.contentType("application/json"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.errors[*].field", contains("[0].name", "[1].name", "[2].name")))
+			.andExpect(jsonPath("$.truncated").value(false));
+	}
+}
@@ -0,0 +1,102 @@
+package seunghun.springvalidation.handle;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * {@code @ValidationResultMode} 엔드포인트는 예외 없이 ErrorResponse를 응답한다
+ */
+@WebMvcTest(ValidationTestController.class)
+class ValidationResultModeTest {
+	@Autowired
+	MockMvc mockMvc;
+
+	@Test
+	void singleParam() throws Exception {
+		mockMvc.perform(get("/handle/api/test/result/single-param")
+				.queryParam("age", "10"))
+			.andExpect(status().isOk())
+			.andExpect(content().string("age is 10"));
+	}
+
+	@Test
+	void singleParamInvalid() throws Exception {
+		mockMvc.perform(get("/handle/api/test/result/single-param")
+				.queryParam("age", "1"))
+			.andExpect(status().isBadRequest())
+			.andExpect(result -> assertThat(result.getResolvedException()).isNull())
+			.andExpect(jsonPath("$.message").value("입력값 검증에 실패했습니다"))
+			.andExpect(jsonPath("$.path").value("/handle/api/test/result/single-param"))
+			.andExpect(jsonPath("$.errors[0].field").value("age"))
+			.andExpect(jsonPath("$.errors[0].rejectedValue").value(1));
+	}
+
+	@Test
+	void singleParamTypeMismatch() throws Exception {
+		mockMvc.perform(get("/handle/api/test/result/single-param")
+				.queryParam("age", "abc"))
+			.andExpect(status().isBadRequest())
+			.andExpect(result -> assertThat(result.getResolvedException()).isNull())
+			.andExpect(jsonPath("$.errors", hasSize(1)))
+			.andExpect(jsonPath("$.errors[0].field").value("age"))
+			.andExpect(jsonPath("$.errors[0].rejectedValue").value("abc"))
+			.andExpect(jsonPath("$.errors[0].message").value("숫자 형식이 올바르지 않습니다"));
+	}
+
+	@Test
+	void requestBodyInvalid() throws Exception {
+		mockMvc.perform(post("/handle/api/test/result/request-body")
+				.content("{\"name\":\"  \",\"age\":null}")
+				.contentType("application/json"))
+			.andExpect(status().isBadRequest())
+			.andExpect(result -> assertThat(result.getResolvedException()).isNull())
+			.andExpect(jsonPath("$.errors[*].field", containsInAnyOrder("name", "age")));
+	}
+
+	@Test
+	void nestedListInvalid() throws Exception {
+		mockMvc.perform(post("/handle/api/test/result/nested-list")
+				.content("{\"name\":\"\",\"users\":[{\"name\":\"\",\"age\":5},{\"name\":\"함승훈\",\"age\":1}]}")
+				.contentType("application/json"))
+			.andExpect(status().isBadRequest())
+			.andExpect(result -> assertThat(result.getResolvedException()).isNull())
+			.andExpect(jsonPath("$.errors[*].field", containsInAnyOrder("name", "users[0].name", "users[0].age", "users[1].age")));
+	}
+
+	@Test
+	void validBodyPassesOnce() throws Exception {
+		mockMvc.perform(post("/handle/api/test/result/nested-list")
+				.content("{\"name\":\"group\",\"users\":[{\"name\":\"함승훈\",\"age\":20}]}")
+				.contentType("application/json"))
+			.andExpect(status().isOk())
+			.andExpect(content().string(startsWith("group name: group")));
+	}
+
+	@Test
+	void compactAcceptUsesMessageConverters() throws Exception {
+		mockMvc.perform(get("/handle/api/test/result/single-param")
+				.queryParam("age", "1")
+				.accept(CompactErrorResponse.MEDIA_TYPE))
+			.andExpect(status().isBadRequest())
+			.andExpect(result -> assertThat(result.getResolvedException()).isNull())
+			.andExpect(content().contentTypeCompatibleWith(CompactErrorResponse.MEDIA_TYPE))
+			.andExpect(jsonPath("$.f", contains("age")))
+			.andExpect(jsonPath("$.e[0][1]").value("Min"));
+	}
+
+	@Test
+	void endpointsWithoutAnnotationUseExceptionHandler() throws Exception {
+		mockMvc.perform(get("/handle/api/test/single-param")
+				.queryParam("age", "1"))
+			.andExpect(status().isBadRequest())
+			.andExpect(result -> assertThat(result.getResolvedException()).isNotNull())
+			.andExpect(jsonPath("$.errors[0].field").value("age"));
+	}
+}
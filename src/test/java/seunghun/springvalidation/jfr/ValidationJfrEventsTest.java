@@ -0,0 +1,105 @@
+package seunghun.springvalidation.jfr;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import seunghun.springvalidation.handle.ValidationTestController;
+import seunghun.springvalidation.handle.dto.UserDto;
+import seunghun.springvalidation.handle.stream.StreamValidationException;
+
+/**
+ * 짧은 JFR 세션을 녹화하는 동안 요청을 보내고 바인딩, 검증, 예외 매핑 이벤트가 남는지 확인한다
+ */
+@WebMvcTest(ValidationTestController.class)
+class ValidationJfrEventsTest {
+	@Autowired
+	MockMvc mockMvc;
+
+	@Test
+	void recordsBindingValidationAndExceptionMapping() throws Exception {
+		List<RecordedEvent> events = record(() -> {
+			mockMvc.perform(post("/handle/api/test/request-body")
+					.content("{\"name\":\"tester\",\"age\":20}")
+					.contentType("application/json"))
+				.andExpect(status().isOk());
+			mockMvc.perform(post("/handle/api/test/request-body")
+					.content("{\"name\":\"  \",\"age\":5}")
+					.contentType("application/json"))
+				.andExpect(status().isBadRequest());
+			mockMvc.perform(get("/handle/api/test/single-param")
+					.queryParam("age", "1"))
+				.andExpect(status().isBadRequest());
+			mockMvc.perform(post("/handle/api/test/users-list")
+					.content("[{\"name\":\"\",\"age\":5}]")
+					.contentType("application/json"))
+				.andExpect(status().isBadRequest());
+		});
+
+		assertThat(events(events, ArgumentBindingEvent.NAME))
+			.anySatisfy(event -> assertThat(event.getString("handler")).contains("requestBody"));
+
+		assertThat(events(events, ConstraintValidationEvent.NAME))
+			.anySatisfy(event -> assertThat(event.getInt("violationCount")).isZero())
+			.anySatisfy(event -> {
+				assertThat(event.getClass("targetType").getName()).isEqualTo(UserDto.class.getName());
+				assertThat(event.getString("kind")).isEqualTo("bean");
+				assertThat(event.getInt("violationCount")).isEqualTo(2);
+			})
+			.anySatisfy(event -> {
+				assertThat(event.getClass("targetType").getName()).isEqualTo(ValidationTestController.class.getName());
+				assertThat(event.getString("kind")).isEqualTo("parameters");
+				assertThat(event.getInt("violationCount")).isEqualTo(1);
+			});
+
+		assertThat(events(events, ExceptionMappingEvent.NAME))
+			.anySatisfy(event -> {
+				assertThat(event.getClass("exceptionType").getName()).isEqualTo(StreamValidationException.class.getName());
+				assertThat(event.getString("handler")).contains("usersList");
+				assertThat(event.getInt("status")).isEqualTo(400);
+			});
+	}
+
+	private static List<RecordedEvent> record(ThrowingRunnable requests) throws Exception {
+		Path file = Files.createTempFile("validation", ".jfr");
+		try (Recording recording = new Recording()) {
+			// 운영 기본값은 1ms 임계치이므로 테스트에서는 모두 남긴다
+			for (String name : List.of(ArgumentBindingEvent.NAME, ConstraintValidationEvent.NAME, ExceptionMappingEvent.NAME)) {
+				recording.enable(name).withThreshold(Duration.ZERO);
+			}
+			recording.start();
+			requests.run();
+			recording.stop();
+			recording.dump(file);
+
+			return RecordingFile.readAllEvents(file);
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	private static List<RecordedEvent> events(List<RecordedEvent> events, String name) {
+		return events.stream()
+			.filter(event -> event.getEventType().getName().equals(name))
+			.toList();
+	}
+
+	@FunctionalInterface
+	private interface ThrowingRunnable {
+		void run() throws Exception;
+	}
+}
@@ -0,0 +1,163 @@
+package seunghun.springvalidation.message;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.MessageInterpolator;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+/**
+ * EL이 없는 메시지는 디스크립터와 Locale별로 한 번만 보간하고, EL 메시지는 값별로 LRU 캐시에 보관한다
+ */
+class CachingMessageInterpolatorTest {
+	record Dto(
+		@NotBlank(message = "이름은 필수입니다") String name,
+		@Min(10) int age
+	) {
+	}
+
+	record ElDto(
+		@Max(value = 5, message = "${validatedValue}은(는) {value} 이하여야 합니다") int count,
+		@DecimalMax("10") BigDecimal price
+	) {
+	}
+
+	AtomicInteger delegateCalls = new AtomicInteger();
+	CachingMessageInterpolator interpolator;
+	Validator validator = createValidator(100, 100);
+
+	@AfterEach
+	void tearDown() {
+		LocaleContextHolder.resetLocaleContext();
+	}
+
+	@Test
+	void staticTemplateIsInterpolatedOnce() {
+		LocaleContextHolder.setLocale(Locale.KOREAN);
+		for (int i = 0; i < 5; i++) {
+			assertThat(validator.validateProperty(new Dto("", 10), "name"))
+				.extracting(ConstraintViolation::getMessage)
+				.containsExactly("이름은 필수입니다");
+		}
+
+		assertThat(delegateCalls).hasValue(1);
+		assertThat(interpolator.staticSize()).isEqualTo(1);
+	}
+
+	@Test
+	void defaultMessageIsCachedPerLocale() {
+		LocaleContextHolder.setLocale(Locale.ENGLISH);
+		String english = validator.validateProperty(new Dto("a", 1), "age").iterator().next().getMessage();
+		validator.validateProperty(new Dto("a", 1), "age");
+
+		LocaleContextHolder.setLocale(Locale.KOREAN);
+		String korean = validator.validateProperty(new Dto("a", 1), "age").iterator().next().getMessage();
+
+		assertThat(english).isEqualTo("must be greater than or equal to 10");
+		assertThat(korean).isNotEqualTo(english).contains("10");
+		assertThat(delegateCalls).hasValue(2);
+		assertThat(interpolator.staticSize()).isEqualTo(2);
+		assertThat(interpolator.dynamicSize()).isZero();
+	}
+
+	@Test
+	void messageParametersDoNotDependOnValue() {
+		LocaleContextHolder.setLocale(Locale.ENGLISH);
+		for (int age = 0; age < 5; age++) {
+			assertThat(validator.validateProperty(new Dto("a", age), "age"))
+				.extracting(ConstraintViolation::getMessage)
+				.containsExactly("must be greater than or equal to 10");
+		}
+
+		assertThat(delegateCalls).hasValue(1);
+	}
+
+	@Test
+	void expressionMessageIsCachedPerValue() {
+		for (int count : new int[] {6, 7, 6}) {
+			assertThat(validator.validateProperty(new ElDto(count, BigDecimal.ONE), "count"))
+				.extracting(ConstraintViolation::getMessage)
+				.containsExactly(count + "은(는) 5 이하여야 합니다");
+		}
+
+		assertThat(delegateCalls).hasValue(2);
+		assertThat(interpolator.staticSize()).isZero();
+		assertThat(interpolator.dynamicSize()).isEqualTo(2);
+	}
+
+	@Test
+	void expressionFromBundleIsNotCachedPerDescriptor() {
+		LocaleContextHolder.setLocale(Locale.ENGLISH);
+		validator.validateProperty(new ElDto(1, new BigDecimal("11")), "price");
+		validator.validateProperty(new ElDto(1, new BigDecimal("12")), "price");
+
+		assertThat(interpolator.staticSize()).isZero();
+		assertThat(interpolator.dynamicSize()).isEqualTo(2);
+	}
+
+	@Test
+	void dynamicCacheEvictsLeastRecentlyUsed() {
+		validator = createValidator(100, 2);
+		for (int count : new int[] {6, 7, 6, 8}) {
+			validator.validateProperty(new ElDto(count, BigDecimal.ONE), "count");
+		}
+
+		assertThat(delegateCalls).hasValue(3);
+		assertThat(interpolator.dynamicSize()).isEqualTo(2);
+
+		// 최근에 사용한 6은 남고 7이 제거된다
+		validator.validateProperty(new ElDto(6, BigDecimal.ONE), "count");
+		assertThat(delegateCalls).hasValue(3);
+		validator.validateProperty(new ElDto(7, BigDecimal.ONE), "count");
+		assertThat(delegateCalls).hasValue(4);
+	}
+
+	@Test
+	void staticCacheIsBoundedAcrossClientLocales() {
+		validator = createValidator(3, 100);
+		for (String tag : new String[] {"en", "ko", "x-a", "x-b", "x-c", "x-d"}) {
+			LocaleContextHolder.setLocale(Locale.forLanguageTag(tag));
+			validator.validateProperty(new Dto("", 10), "name");
+		}
+
+		assertThat(interpolator.staticSize()).isEqualTo(3);
+
+		// 가장 최근 Locale은 남아 있어 다시 보간하지 않는다
+		int calls = delegateCalls.get();
+		validator.validateProperty(new Dto("", 10), "name");
+		assertThat(delegateCalls).hasValue(calls);
+	}
+
+	private Validator createValidator(int maxStaticEntries, int maxDynamicEntries) {
+		var configuration = Validation.byDefaultProvider().configure();
+		MessageInterpolator defaultInterpolator = configuration.getDefaultMessageInterpolator();
+		MessageInterpolator counting = new MessageInterpolator() {
+			@Override
+			public String interpolate(String messageTemplate, Context context) {
+				return interpolate(messageTemplate, context, Locale.getDefault());
+			}
+
+			@Override
+			public String interpolate(String messageTemplate, Context context, Locale locale) {
+				delegateCalls.incrementAndGet();
+				return defaultInterpolator.interpolate(messageTemplate, context, locale);
+			}
+		};
+
+		interpolator = new CachingMessageInterpolator(counting, maxStaticEntries, maxDynamicEntries);
+		return configuration.messageInterpolator(interpolator).buildValidatorFactory().getValidator();
+	}
+}
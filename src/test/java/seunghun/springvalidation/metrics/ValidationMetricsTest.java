@@ -0,0 +1,74 @@
+package seunghun.springvalidation.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import seunghun.springvalidation.handle.ValidationTestController;
+
+/**
+ * 요청 단위 검증 시간과 필드/제약조건별 위반 횟수를 MeterRegistry에 기록한다
+ */
+@WebMvcTest(ValidationTestController.class)
+@Import(ValidationMetricsTest.MeterRegistryConfig.class)
+class ValidationMetricsTest {
+	@TestConfiguration
+	static class MeterRegistryConfig {
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@Autowired
+	MeterRegistry meterRegistry;
+
+	@Test
+	void recordsViolationsByFieldAndConstraint() throws Exception {
+		mockMvc.perform(post("/handle/api/test/request-body")
+				.content("{\"name\":\"  \",\"age\":10}")
+				.contentType("application/json"))
+			.andExpect(status().isBadRequest());
+
+		assertThat(meterRegistry.get("validation.violations")
+			.tag("uri", "/handle/api/test/request-body")
+			.tag("field", "UserDto.name")
+			.tag("constraint", "NotBlank")
+			.counter()
+			.count()).isEqualTo(1);
+		assertThat(meterRegistry.get("validation.duration")
+			.tag("uri", "/handle/api/test/request-body")
+			.tag("outcome", "fail")
+			.timer()
+			.count()).isEqualTo(1);
+	}
+
+	@Test
+	void recordsPassedValidation() throws Exception {
+		mockMvc.perform(get("/handle/api/test/multiple-param")
+				.queryParam("page", "1")
+				.queryParam("size", "10")
+				.queryParam("keyword", "spring"))
+			.andExpect(status().isOk());
+
+		assertThat(meterRegistry.get("validation.duration")
+			.tag("uri", "/handle/api/test/multiple-param")
+			.tag("outcome", "pass")
+			.timer()
+			.count()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,63 @@
+package seunghun.springvalidation.parsetime;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Method;
+
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.constraints.NotNull;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import seunghun.springvalidation.handle.dto.UserDto;
+
+/**
+ * 역직렬화 중 검증을 통과한 인자는 메서드 파라미터 검증에서 다시 cascade하지 않는다
+ */
+class ParseTimeValidatedExecutableValidatorTest {
+	static class Handler {
+		void handle(@Valid UserDto user, @Valid @NotNull UserDto required) {
+		}
+	}
+
+	ParseTimeValidatedExecutableValidator validator = new ParseTimeValidatedExecutableValidator(
+		Validation.buildDefaultValidatorFactory().getValidator().forExecutables()
+	);
+
+	@AfterEach
+	void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	void validatedArgumentIsNotCascaded() throws Exception {
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+		Method method = Handler.class.getDeclaredMethod("handle", UserDto.class, UserDto.class);
+		UserDto invalid = new UserDto("", 1);
+		Object[] arguments = {invalid, new UserDto("함승훈", 20)};
+
+		assertThat(validator.validateParameters(new Handler(), method, arguments)).hasSize(2);
+
+		ParseTimeValidationSupport.markValidated(invalid);
+		assertThat(validator.validateParameters(new Handler(), method, arguments)).isEmpty();
+		assertThat(arguments[0]).isSameAs(invalid);
+	}
+
+	@Test
+	void parameterConstraintIsStillChecked() throws Exception {
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+		Method method = Handler.class.getDeclaredMethod("handle", UserDto.class, UserDto.class);
+		UserDto invalid = new UserDto("", 1);
+		ParseTimeValidationSupport.markValidated(invalid);
+
+		// 파라미터에 제약조건이 있으면 인자를 빼지 않으므로 cascade도 그대로 실행된다
+		assertThat(validator.validateParameters(new Handler(), method, new Object[] {new UserDto("함승훈", 20), invalid}))
+			.extracting(violation -> violation.getPropertyPath().toString())
+			.containsExactlyInAnyOrder("handle.required.name", "handle.required.age");
+	}
+}
@@ -0,0 +1,80 @@
+package seunghun.springvalidation.plan;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+
+import jakarta.validation.Validation;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NegativeOrZero;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+
+import org.junit.jupiter.api.Test;
+
+import seunghun.springvalidation.handle.dto.UserDto;
+
+/**
+ * 다른 제약조건에 포함되는 제약조건을 빼고, 남은 제약조건을 싼 검사부터 정렬한다
+ */
+class ConstraintPlanAnalyzerTest {
+	record Dto(
+		@Pattern(regexp = "[a-z]+") @NotBlank @NotNull String name,
+		@Min(5) @Min(10) @DecimalMin("10") Long count,
+		@Max(0) @NegativeOrZero int debt,
+		@Positive @DecimalMin(value = "0", inclusive = false) BigDecimal amount
+	) {
+	}
+
+	record Group(
+		@NotNull(groups = Create.class) @NotBlank String name
+	) {
+		interface Create {
+		}
+	}
+
+	ConstraintPlanAnalyzer analyzer = new ConstraintPlanAnalyzer(Validation.buildDefaultValidatorFactory().getValidator());
+
+	@Test
+	void userDtoAgeDropsPositive() {
+		PropertyPlan age = analyzer.analyze(UserDto.class).property("age");
+
+		assertThat(age.removed()).extracting(removed -> removed.constraint().getAnnotation().annotationType().getSimpleName())
+			.containsExactly("Positive");
+		assertThat(age.removed().get(0).impliedBy().getAttributes().get("value")).isEqualTo(10L);
+		assertThat(age.evaluationOrder()).extracting(constraint -> constraint.getAnnotation().annotationType().getSimpleName())
+			.containsExactly("NotNull", "Min");
+	}
+
+	@Test
+	void ordersCheapestFirstAndDropsImpliedNullCheck() {
+		PropertyPlan name = analyzer.analyze(Dto.class).property("name");
+
+		assertThat(name.evaluationOrder()).extracting(constraint -> constraint.getAnnotation().annotationType().getSimpleName())
+			.containsExactly("NotBlank", "Pattern");
+		assertThat(name.removed()).hasSize(1);
+	}
+
+	@Test
+	void keepsOnlyStrongestBound() {
+		ConstraintPlan plan = analyzer.analyze(Dto.class);
+
+		assertThat(plan.property("count").evaluationOrder()).hasSize(1);
+		assertThat(plan.property("count").removed()).hasSize(2);
+		assertThat(plan.property("debt").evaluationOrder()).hasSize(1);
+		// 같은 의미의 두 제약조건은 하나만 남는다
+		assertThat(plan.property("amount").evaluationOrder()).hasSize(1);
+	}
+
+	@Test
+	void differentGroupsAreNotCompared() {
+		PropertyPlan name = analyzer.analyze(Group.class).property("name");
+
+		assertThat(name.removed()).isEmpty();
+		assertThat(name.evaluationOrder()).hasSize(2);
+	}
+}
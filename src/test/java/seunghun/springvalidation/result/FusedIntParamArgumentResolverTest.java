@@ -0,0 +1,138 @@
+package seunghun.springvalidation.result;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.Map;
+
+import jakarta.validation.constraints.Min;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import seunghun.springvalidation.validation.constraints.ConstraintsController;
+import seunghun.springvalidation.validation.valid.ValidController;
+import seunghun.springvalidation.validation.validated.ValidatedController;
+
+/**
+ * 결과 모드가 아닌 컨트롤러의 {@code @RequestParam int}도 fused 파싱을 사용하면서 기존 예외 타입을 유지한다
+ */
+@WebMvcTest({ValidController.class, ValidatedController.class, ConstraintsController.class})
+@Import(FusedIntParamArgumentResolverTest.DefaultValueController.class)
+class FusedIntParamArgumentResolverTest {
+	@Autowired
+	MockMvc mockMvc;
+
+	@Autowired
+	RequestMappingHandlerAdapter handlerAdapter;
+
+	@Autowired
+	RequestMappingHandlerMapping handlerMapping;
+
+	@ParameterizedTest
+	@ValueSource(strings = {"/valid/request-param", "/validated/request-param", "/constraints/request-param"})
+	void requestParamIntIsFused(String path) {
+		HandlerMethod handlerMethod = handlerMapping.getHandlerMethods()
+			.entrySet()
+			.stream()
+			.filter(entry -> entry.getKey().getPatternValues().contains(path))
+			.map(Map.Entry::getValue)
+			.findFirst()
+			.orElseThrow();
+
+		assertThat(handlerAdapter.getArgumentResolvers().get(0))
+			.isInstanceOf(FusedIntParamArgumentResolver.class)
+			.satisfies(resolver -> assertThat(resolver.supportsParameter(handlerMethod.getMethodParameters()[0])).isTrue());
+	}
+
+	@ParameterizedTest
+	@CsvSource({
+		"/valid/request-param, HandlerMethodValidationException",
+		"/validated/request-param, ConstraintViolationException",
+		"/constraints/request-param, HandlerMethodValidationException"
+	})
+	void outOfRangeKeepsExceptionType(String path, String exceptionType) throws Exception {
+		mockMvc.perform(get(path)
+				.queryParam("age", "5")
+				.queryParam("name", "seunghun"))
+			.andExpect(status().isBadRequest())
+			.andExpect(content().string(startsWith(exceptionType)));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"/valid/request-param", "/validated/request-param", "/constraints/request-param"})
+	void unparsableValueFallsBackToBinder(String path) throws Exception {
+		mockMvc.perform(get(path)
+				.queryParam("age", "0x10")
+				.queryParam("name", "seunghun"))
+			.andExpect(status().isOk())
+			.andExpect(content().string("Hello seunghun, your age is 16"));
+
+		mockMvc.perform(get(path)
+				.queryParam("age", "abc")
+				.queryParam("name", "seunghun"))
+			.andExpect(status().isBadRequest())
+			.andExpect(content().string(startsWith("MethodArgumentTypeMismatchException")));
+	}
+
+	// Integer.parseInt처럼 앞에 붙은 0은 자릿수에 세지 않는다
+	@ParameterizedTest
+	@ValueSource(strings = {"/valid/request-param", "/validated/request-param", "/constraints/request-param"})
+	void leadingZerosAreAccepted(String path) throws Exception {
+		mockMvc.perform(get(path)
+				.queryParam("age", "00000000020")
+				.queryParam("name", "seunghun"))
+			.andExpect(status().isOk())
+			.andExpect(content().string("Hello seunghun, your age is 20"));
+	}
+
+	@Test
+	void leadingZerosAreNotCountedAsDigits() {
+		assertThat(FusedIntParamSpec.parse("00000000010")).isEqualTo(10);
+		assertThat(FusedIntParamSpec.parse("-0002147483648")).isEqualTo(Integer.MIN_VALUE);
+		assertThat(FusedIntParamSpec.parse("000")).isZero();
+		assertThat(FusedIntParamSpec.parse("02147483648")).isEqualTo(FusedIntParamSpec.INVALID);
+	}
+
+	// 기본 @RequestParam 처리처럼 빈 값에도 defaultValue를 적용한다
+	@ParameterizedTest
+	@ValueSource(strings = {"/fused/default-value", "/fused/result/default-value"})
+	void emptyValueUsesDefaultValue(String path) throws Exception {
+		mockMvc.perform(get(path)
+				.queryParam("size", ""))
+			.andExpect(status().isOk())
+			.andExpect(content().string("size is 20"));
+
+		mockMvc.perform(get(path))
+			.andExpect(status().isOk())
+			.andExpect(content().string("size is 20"));
+	}
+
+	@RestController
+	static class DefaultValueController {
+		@GetMapping("/fused/default-value")
+		String defaultValue(@RequestParam(defaultValue = "20") @Min(10) int size) {
+			return "size is " + size;
+		}
+
+		@ValidationResultMode
+		@GetMapping("/fused/result/default-value")
+		String resultDefaultValue(@RequestParam(defaultValue = "20") @Min(10) int size) {
+			return "size is " + size;
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package seunghun.springvalidation.valid;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+
+import seunghun.springvalidation.cascade.ParallelCascadeValidator;
+import seunghun.springvalidation.generated.GeneratedValidatorAdapter;
+import seunghun.springvalidation.generated.GeneratedValidators;
+import seunghun.springvalidation.plan.ConstraintPlan;
+import seunghun.springvalidation.plan.ConstraintPlan.Evaluation;
+import seunghun.springvalidation.plan.ConstraintPlanAnalyzer;
+import seunghun.springvalidation.plan.ConstraintPlanConfig;
+import seunghun.springvalidation.validation.valid.ContentDto;
+import seunghun.springvalidation.validation.valid.UserDto;
+import seunghun.springvalidation.validation.valid.ValidController;
+import seunghun.springvalidation.validation.valid.ValidationGroups;
+
+/**
+ * 핸들러가 지정한 그룹의 제약조건만 평가하고, (DTO, 그룹) 계획을 캐시해 다시 사용한다
+ */
+@WebMvcTest(ValidController.class)
+@Import(ConstraintPlanConfig.class)
+class ValidationGroupsTest {
+	@Autowired
+	MockMvc mockMvc;
+
+	@Autowired
+	ConstraintPlanAnalyzer constraintPlanAnalyzer;
+
+	@Test
+	void updateSkipsUserConstraints() throws Exception {
+		mockMvc.perform(put("/valid/request-body")
+				.content("{\"user\":{\"name\":\"\",\"age\":-1},\"content\":\"updated\"}")
+				.contentType("application/json"))
+			.andExpect(status().isOk())
+			.andExpect(content().string("content: updated"));
+
+		assertThat(constraintPlanAnalyzer.getPlan(ContentDto.class, ValidationGroups.Update.class)).isNotNull();
+	}
+
+	@Test
+	void updateValidatesContent() throws Exception {
+		mockMvc.perform(put("/valid/request-body")
+				.content("{\"content\":\" \"}")
+				.contentType("application/json"))
+			.andExpect(status().isBadRequest())
+			.andExpect(content().string(containsString("MethodArgumentNotValidException")))
+			.andExpect(content().string(containsString("field 'content'")))
+			.andExpect(content().string(not(containsString("field 'user"))));
+	}
+
+	@Test
+	void createValidatesDefaultConstraints() throws Exception {
+		mockMvc.perform(post("/valid/request-body/create")
+				.content("{\"user\":{\"name\":\"\",\"age\":-1},\"content\":\"content\"}")
+				.contentType("application/json"))
+			.andExpect(status().isBadRequest())
+			.andExpect(content().string(containsString("field 'user.name'")))
+			.andExpect(content().string(containsString("field 'user.age'")));
+	}
+
+	@Test
+	void groupPlans() {
+		assertThat(constraintPlanAnalyzer.analyze(ContentDto.class, ValidationGroups.Update.class).evaluation()).isEqualTo(Evaluation.GROUPS);
+		assertThat(constraintPlanAnalyzer.analyze(ContentDto.class, ValidationGroups.Update.class).properties())
+			.extracting(property -> property.property())
+			.containsExactly("content");
+		assertThat(constraintPlanAnalyzer.analyze(UserDto.class, ValidationGroups.Update.class).evaluation()).isEqualTo(Evaluation.SKIP);
+		// Create는 Default를 상속하므로 생성된 검증기를 쓰는 기본 검증 경로를 탄다
+		assertThat(constraintPlanAnalyzer.analyze(ContentDto.class, ValidationGroups.Create.class).evaluation()).isEqualTo(Evaluation.DEFAULT);
+	}
+
+	@Test
+	void adapterComputesGroupPlanOnce() {
+		Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+		AtomicInteger analyzed = new AtomicInteger();
+		ConstraintPlanAnalyzer countingAnalyzer = new ConstraintPlanAnalyzer(validator) {
+			@Override
+			public ConstraintPlan analyze(Class<?> type, Class<?>... groups) {
+				analyzed.incrementAndGet();
+				return super.analyze(type, groups);
+			}
+		};
+		GeneratedValidatorAdapter adapter = new GeneratedValidatorAdapter(
+			validator,
+			GeneratedValidators.empty(),
+			new ParallelCascadeValidator(validator, ForkJoinPool.commonPool(), 10),
+			validator,
+			countingAnalyzer
+		);
+
+		for (int i = 0; i < 2; i++) {
+			ContentDto content = new ContentDto(new UserDto("", -1), " ");
+			BeanPropertyBindingResult errors = new BeanPropertyBindingResult(content, "contentDto");
+			adapter.validate(content, errors, ValidationGroups.Update.class);
+
+			assertThat(errors.getFieldErrors()).extracting(FieldError::getField).containsExactly("content");
+
+			// 그룹 조합마다 계획을 따로 둔다
+			adapter.validate(content, new BeanPropertyBindingResult(content, "contentDto"), ValidationGroups.Create.class);
+		}
+		assertThat(analyzed).hasValue(2);
+	}
+}
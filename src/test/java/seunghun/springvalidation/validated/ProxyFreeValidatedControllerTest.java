@@ -0,0 +1,60 @@
+package seunghun.springvalidation.validated;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import seunghun.springvalidation.proxyfree.ProxyFreeValidationConfig;
+import seunghun.springvalidation.validation.validated.ValidatedController;
+
+/**
+ * 프록시 없는 모드에서도 {@code @Validated} 컨트롤러는 같은 ConstraintViolationException 응답을 만든다
+ */
+@WebMvcTest(controllers = ValidatedController.class, properties = "validation.proxy-free.enabled=true")
+@Import(ProxyFreeValidationConfig.class)
+class ProxyFreeValidatedControllerTest {
+	@Autowired
+	MockMvc mockMvc;
+
+	@Autowired
+	ValidatedController validatedController;
+
+	@Test
+	void controllerIsNotProxied() {
+		assertThat(AopUtils.isAopProxy(validatedController)).isFalse();
+	}
+
+	@Test
+	void requestParam() throws Exception {
+		mockMvc.perform(get("/validated/request-param")
+				.queryParam("age", "10")
+				.queryParam("name", "seunghun"))
+			.andExpect(status().isOk())
+			.andExpect(content().string("Hello seunghun, your age is 10"));
+	}
+
+	@Test
+	void requestParamInvalid() throws Exception {
+		mockMvc.perform(get("/validated/request-param")
+				.queryParam("age", "-1")
+				.queryParam("name", "seunghun"))
+			.andExpect(status().isBadRequest())
+			.andExpect(content().string(containsString("ConstraintViolationException")))
+			.andExpect(content().string(containsString("requestParam.age: The value must be greater than 10")));
+	}
+
+	@Test
+	void pathVariableInvalid() throws Exception {
+		mockMvc.perform(get("/validated/path-variable/{name}/{age}", "seunghun", "-1"))
+			.andExpect(status().isBadRequest())
+			.andExpect(content().string(containsString("ConstraintViolationException")));
+	}
+}
@@ -0,0 +1,32 @@
+package seunghun.springvalidation.warmup;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+
+import seunghun.springvalidation.handle.ValidationTestController;
+import seunghun.springvalidation.handle.dto.ContentDto;
+import seunghun.springvalidation.handle.dto.GroupDto;
+import seunghun.springvalidation.handle.dto.UserDto;
+
+/**
+ * 시작 시 핸들러 파라미터와 cascade 대상 DTO의 메타데이터를 미리 만든다
+ */
+@WebMvcTest(ValidationTestController.class)
+@Import(ValidationWarmUpConfig.class)
+class ValidationWarmUpTest {
+	@Autowired
+	ValidationWarmUp validationWarmUp;
+
+	@Test
+	void warmsUpHandlerParametersAndCascadedTypes() {
+		ValidationWarmUpReport report = validationWarmUp.getLastReport();
+
+		assertThat(report).isNotNull();
+		assertThat(report.handlerMethods()).isPositive();
+		assertThat(report.types()).contains(ContentDto.class, GroupDto.class, UserDto.class);
+	}
+}
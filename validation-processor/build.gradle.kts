@@ -0,0 +1,17 @@
+plugins {
+	java
+}
+
+group = "seunghun"
+version = "0.0.1-SNAPSHOT"
+description = "Annotation processor generating reflection-free validators for record DTOs"
+
+java {
+	toolchain {
+		languageVersion = JavaLanguageVersion.of(21)
+	}
+}
+
+repositories {
+	mavenCentral()
+}
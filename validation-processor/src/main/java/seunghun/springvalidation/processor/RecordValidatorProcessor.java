@@ -0,0 +1,492 @@
+package seunghun.springvalidation.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Jakarta 제약조건이 붙은 record마다 리플렉션 없이 동작하는 검증기를 생성한다.
+ * 지원하지 않는 제약조건이 하나라도 있으면 해당 record는 생성 대상에서 제외되고 Hibernate Validator가 그대로 검증한다.
+ * 생성된 검증기는 Default 그룹 검증이므로 Default에 속하지 않는 제약조건은 건너뛰고, Default를 재정의하는 그룹 시퀀스가 있으면 생성하지 않는다.
+ */
+@SupportedAnnotationTypes({"jakarta.validation.constraints.*", "jakarta.validation.Valid"})
+public class RecordValidatorProcessor extends AbstractProcessor {
+	static final String GENERATED_VALIDATOR = "seunghun.springvalidation.generated.GeneratedValidator";
+	static final String SUFFIX = "GeneratedValidator";
+
+	private static final String CONSTRAINTS_PACKAGE = "jakarta.validation.constraints.";
+	private static final String CONSTRAINT = "jakarta.validation.Constraint";
+	private static final String VALID = "jakarta.validation.Valid";
+	private static final String DEFAULT_GROUP = "jakarta.validation.groups.Default";
+	private static final Set<String> GROUP_SEQUENCES = Set.of(
+		"jakarta.validation.GroupSequence", "org.hibernate.validator.group.GroupSequenceProvider"
+	);
+	private static final Set<String> INTEGRAL_TYPES = Set.of(
+		"java.lang.Integer", "java.lang.Long", "java.lang.Short", "java.lang.Byte"
+	);
+
+	private final Set<String> generatedValidators = new TreeSet<>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		if (roundEnv.processingOver()) {
+			writeServiceFile();
+			return false;
+		}
+
+		Map<String, TypeElement> candidates = new LinkedHashMap<>();
+		for (TypeElement annotation : annotations) {
+			for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+				TypeElement record = enclosingRecord(element);
+				if (record != null) {
+					candidates.put(record.getQualifiedName().toString(), record);
+				}
+			}
+		}
+
+		Map<String, List<FieldPlan>> plans = new LinkedHashMap<>();
+		for (TypeElement record : candidates.values()) {
+			List<FieldPlan> plan = plan(record);
+			if (plan != null) {
+				plans.put(record.getQualifiedName().toString(), plan);
+			}
+		}
+
+		// cascade 대상이 생성되지 않는 record는 부모도 생성할 수 없다
+		boolean changed = true;
+		while (changed) {
+			changed = plans.values().removeIf(plan -> plan.stream()
+				.anyMatch(field -> field.cascadeTarget() != null && !plans.containsKey(field.cascadeTarget())));
+		}
+
+		plans.forEach((name, plan) -> write(candidates.get(name), plan));
+		return false;
+	}
+
+	private TypeElement enclosingRecord(Element element) {
+		Element current = element;
+		while (current != null && !(current instanceof TypeElement)) {
+			current = current.getEnclosingElement();
+		}
+
+		if (current instanceof TypeElement type
+			&& type.getKind() == ElementKind.RECORD
+			&& type.getNestingKind() == NestingKind.TOP_LEVEL) {
+			return type;
+		}
+
+		return null;
+	}
+
+	private List<FieldPlan> plan(TypeElement record) {
+		if (hasConstraint(record.getAnnotationMirrors())
+			|| record.getAnnotationMirrors().stream().anyMatch(annotation -> GROUP_SEQUENCES.contains(annotationName(annotation)))) {
+			return null;
+		}
+
+		List<FieldPlan> plans = new ArrayList<>();
+		for (VariableElement field : ElementFilter.fieldsIn(record.getEnclosedElements())) {
+			if (field.getModifiers().contains(Modifier.STATIC)) {
+				continue;
+			}
+
+			FieldPlan plan = plan(field);
+			if (plan == null) {
+				note(record, "unsupported constraint on " + field.getSimpleName());
+				return null;
+			}
+
+			plans.add(plan);
+		}
+
+		return plans;
+	}
+
+	private FieldPlan plan(VariableElement field) {
+		TypeMirror type = field.asType();
+		if (type instanceof DeclaredType declaredType) {
+			for (TypeMirror argument : declaredType.getTypeArguments()) {
+				if (hasConstraint(argument.getAnnotationMirrors())) {
+					return null;
+				}
+			}
+		}
+
+		String cascadeTarget = null;
+		boolean iterable = false;
+		boolean notNull = false;
+		boolean notBlank = false;
+		Range range = new Range();
+		String name = field.getSimpleName().toString();
+
+		for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+			String annotationName = annotationName(annotation);
+
+			if (annotationName.equals(VALID)) {
+				TypeElement target = asRecord(type);
+				if (target == null && isIterable(type)) {
+					target = asRecord(((DeclaredType)type).getTypeArguments().get(0));
+					iterable = true;
+				}
+
+				if (target == null) {
+					return null;
+				}
+
+				cascadeTarget = target.getQualifiedName().toString();
+				continue;
+			}
+
+			if (!isConstraint(annotation)) {
+				continue;
+			}
+
+			// 다른 그룹 전용 제약조건은 Default 그룹 검증에서 평가되지 않는다
+			if (!inDefaultGroup(annotation)) {
+				continue;
+			}
+
+			switch (annotationName) {
+				// primitive 타입은 null이 될 수 없으므로 @NotNull은 항상 통과한다
+				case CONSTRAINTS_PACKAGE + "NotNull" -> notNull |= !type.getKind().isPrimitive();
+				case CONSTRAINTS_PACKAGE + "NotBlank" -> {
+					if (!isCharSequence(type)) {
+						return null;
+					}
+
+					notBlank = true;
+				}
+				default -> {
+					if (!isIntegral(type) || !range.add(annotationName, annotation)) {
+						return null;
+					}
+				}
+			}
+		}
+
+		for (String folded : range.folded) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Folded " + folded + " on " + name + " into " + range.describe(), field);
+		}
+
+		return new FieldPlan(name, checks(localName(name), type, notNull, range, notBlank), cascadeTarget, iterable);
+	}
+
+	private List<Check> checks(String name, TypeMirror type, boolean notNull, Range range, boolean notBlank) {
+		List<Check> checks = new ArrayList<>();
+		if (notNull) {
+			checks.add(new Check(Check.NULL, name + " == null"));
+		}
+
+		// 앞에서 null을 이미 걸렀으면 범위 검사에서 다시 확인하지 않는다
+		String guard = type.getKind().isPrimitive() || notNull ? "" : name + " != null && ";
+		if (range.lower != null && range.upper != null) {
+			checks.add(new Check(Check.RANGE, guard + "(" + name + " < " + range.lower + "L || " + name + " > " + range.upper + "L)"));
+		} else if (range.lower != null) {
+			checks.add(new Check(Check.RANGE, guard + name + " < " + range.lower + "L"));
+		} else if (range.upper != null) {
+			checks.add(new Check(Check.RANGE, guard + name + " > " + range.upper + "L"));
+		}
+
+		if (notBlank) {
+			checks.add(new Check(Check.TEXT, "!GeneratedValidator.hasText(" + name + ")"));
+		}
+
+		return checks;
+	}
+
+	private boolean isIntegral(TypeMirror type) {
+		TypeKind kind = type.getKind();
+		return kind == TypeKind.INT || kind == TypeKind.LONG || kind == TypeKind.SHORT || kind == TypeKind.BYTE
+			|| (kind == TypeKind.DECLARED && INTEGRAL_TYPES.contains(qualifiedName(type)));
+	}
+
+	private long longValue(AnnotationMirror annotation) {
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues().entrySet()) {
+			if (entry.getKey().getSimpleName().contentEquals("value")) {
+				return ((Number)entry.getValue().getValue()).longValue();
+			}
+		}
+
+		throw new IllegalStateException("value is required: " + annotation);
+	}
+
+	private boolean inDefaultGroup(AnnotationMirror annotation) {
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : annotation.getElementValues().entrySet()) {
+			if (entry.getKey().getSimpleName().contentEquals("groups")
+				&& entry.getValue().getValue() instanceof List<?> groups
+				&& !groups.isEmpty()) {
+				return groups.stream()
+					.anyMatch(group -> group instanceof AnnotationValue value
+						&& value.getValue() instanceof TypeMirror groupType
+						&& qualifiedName(groupType).equals(DEFAULT_GROUP));
+			}
+		}
+
+		return true;
+	}
+
+	private boolean hasConstraint(List<? extends AnnotationMirror> annotations) {
+		return annotations.stream().anyMatch(this::isConstraint);
+	}
+
+	private boolean isConstraint(AnnotationMirror annotation) {
+		Element annotationType = annotation.getAnnotationType().asElement();
+		return annotationName(annotation).startsWith(CONSTRAINTS_PACKAGE)
+			|| annotationType.getAnnotationMirrors().stream().anyMatch(meta -> annotationName(meta).equals(CONSTRAINT));
+	}
+
+	private boolean isCharSequence(TypeMirror type) {
+		TypeElement charSequence = processingEnv.getElementUtils().getTypeElement("java.lang.CharSequence");
+		return processingEnv.getTypeUtils().isAssignable(type, charSequence.asType());
+	}
+
+	private boolean isIterable(TypeMirror type) {
+		if (!(type instanceof DeclaredType declaredType) || declaredType.getTypeArguments().size() != 1) {
+			return false;
+		}
+
+		TypeElement iterable = processingEnv.getElementUtils().getTypeElement("java.lang.Iterable");
+		TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+		return processingEnv.getTypeUtils().isAssignable(erasure, processingEnv.getTypeUtils().erasure(iterable.asType()));
+	}
+
+	private TypeElement asRecord(TypeMirror type) {
+		if (type instanceof DeclaredType declaredType
+			&& declaredType.asElement() instanceof TypeElement element
+			&& element.getKind() == ElementKind.RECORD
+			&& element.getNestingKind() == NestingKind.TOP_LEVEL) {
+			return element;
+		}
+
+		return null;
+	}
+
+	private static String localName(String fieldName) {
+		return fieldName + "Value";
+	}
+
+	private String annotationName(AnnotationMirror annotation) {
+		return ((TypeElement)annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+	}
+
+	private String qualifiedName(TypeMirror type) {
+		return ((TypeElement)((DeclaredType)type).asElement()).getQualifiedName().toString();
+	}
+
+	private void write(TypeElement record, List<FieldPlan> plans) {
+		PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(record);
+		String packageName = packageElement.getQualifiedName().toString();
+		String recordName = record.getSimpleName().toString();
+		String validatorName = recordName + SUFFIX;
+
+		StringBuilder source = new StringBuilder();
+		if (!packageName.isEmpty()) {
+			source.append("package ").append(packageName).append(";\n\n");
+		}
+
+		source.append("import ").append(GENERATED_VALIDATOR).append(";\n\n")
+			.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+			.append("public final class ").append(validatorName)
+			.append(" implements GeneratedValidator<").append(recordName).append("> {\n");
+
+		for (FieldPlan plan : plans) {
+			if (plan.cascadeTarget() != null) {
+				String cascadeValidator = plan.cascadeTarget() + SUFFIX;
+				source.append("\tprivate static final ").append(cascadeValidator).append(' ')
+					.append(plan.constantName()).append(" = new ").append(cascadeValidator).append("();\n");
+			}
+		}
+
+		source.append("\n\t@Override\n")
+			.append("\tpublic Class<").append(recordName).append("> targetType() {\n")
+			.append("\t\treturn ").append(recordName).append(".class;\n")
+			.append("\t}\n\n")
+			.append("\t@Override\n")
+			.append("\tpublic boolean isValid(").append(recordName).append(" target) {\n");
+
+		for (FieldPlan plan : plans) {
+			if (!plan.checks().isEmpty() || plan.cascadeTarget() != null) {
+				source.append("\t\tvar ").append(localName(plan.name())).append(" = target.").append(plan.name()).append("();\n");
+			}
+		}
+
+		// 필드 순서와 관계없이 싼 검사부터: null 비교, 정수 범위 비교, 문자열 순회, cascade 순서로 둔다
+		List<Check> checks = plans.stream()
+			.flatMap(plan -> plan.checks().stream())
+			.sorted(Comparator.comparingInt(Check::cost))
+			.toList();
+		for (Check check : checks) {
+			source.append("\t\tif (").append(check.expression()).append(") {\n\t\t\treturn false;\n\t\t}\n");
+		}
+
+		for (FieldPlan plan : plans) {
+			String local = localName(plan.name());
+			if (plan.cascadeTarget() != null && plan.iterable()) {
+				source.append("\t\tif (").append(local).append(" != null) {\n")
+					.append("\t\t\tfor (var element : ").append(local).append(") {\n")
+					.append("\t\t\t\tif (element != null && !").append(plan.constantName()).append(".isValid(element)) {\n")
+					.append("\t\t\t\t\treturn false;\n")
+					.append("\t\t\t\t}\n")
+					.append("\t\t\t}\n")
+					.append("\t\t}\n");
+			} else if (plan.cascadeTarget() != null) {
+				source.append("\t\tif (").append(local).append(" != null && !")
+					.append(plan.constantName()).append(".isValid(").append(local).append(")) {\n")
+					.append("\t\t\treturn false;\n")
+					.append("\t\t}\n");
+			}
+		}
+
+		source.append("\t\treturn true;\n")
+			.append("\t}\n")
+			.append("}\n");
+
+		String qualifiedName = packageName.isEmpty() ? validatorName : packageName + "." + validatorName;
+		try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, record).openWriter()) {
+			writer.write(source.toString());
+			generatedValidators.add(qualifiedName);
+		} catch (IOException exception) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to generate " + qualifiedName + ": " + exception.getMessage(), record);
+		}
+	}
+
+	private void writeServiceFile() {
+		if (generatedValidators.isEmpty()) {
+			return;
+		}
+
+		try {
+			FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", "META-INF/services/" + GENERATED_VALIDATOR);
+			try (Writer writer = file.openWriter()) {
+				for (String validator : generatedValidators) {
+					writer.write(validator);
+					writer.write('\n');
+				}
+			}
+		} catch (IOException exception) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write service file: " + exception.getMessage());
+		}
+	}
+
+	private void note(Element element, String message) {
+		processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Skipping generated validator: " + message, element);
+	}
+
+	/**
+	 * 정수 범위 제약조건을 하나의 하한/상한으로 접는다. 더 강한 경계에 포함되는 제약조건은 folded에 남긴다.
+	 */
+	private final class Range {
+		private Long lower;
+		private Long upper;
+		private String lowerSource;
+		private String upperSource;
+		private final List<String> folded = new ArrayList<>();
+
+		boolean add(String annotationName, AnnotationMirror annotation) {
+			String simpleName = annotationName.substring(annotationName.lastIndexOf('.') + 1);
+			return switch (annotationName) {
+				case CONSTRAINTS_PACKAGE + "Min" -> addLower(longValue(annotation), "@Min(" + longValue(annotation) + ")");
+				case CONSTRAINTS_PACKAGE + "Positive" -> addLower(1, "@" + simpleName);
+				case CONSTRAINTS_PACKAGE + "PositiveOrZero" -> addLower(0, "@" + simpleName);
+				case CONSTRAINTS_PACKAGE + "Max" -> addUpper(longValue(annotation), "@Max(" + longValue(annotation) + ")");
+				case CONSTRAINTS_PACKAGE + "Negative" -> addUpper(-1, "@" + simpleName);
+				case CONSTRAINTS_PACKAGE + "NegativeOrZero" -> addUpper(0, "@" + simpleName);
+				default -> false;
+			};
+		}
+
+		private boolean addLower(long value, String source) {
+			if (lower == null || value > lower) {
+				if (lowerSource != null) {
+					folded.add(lowerSource);
+				}
+
+				lower = value;
+				lowerSource = source;
+			} else {
+				folded.add(source);
+			}
+
+			return true;
+		}
+
+		private boolean addUpper(long value, String source) {
+			if (upper == null || value < upper) {
+				if (upperSource != null) {
+					folded.add(upperSource);
+				}
+
+				upper = value;
+				upperSource = source;
+			} else {
+				folded.add(source);
+			}
+
+			return true;
+		}
+
+		String describe() {
+			if (lowerSource != null && upperSource != null) {
+				return lowerSource + " " + upperSource;
+			}
+
+			return lowerSource != null ? lowerSource : upperSource;
+		}
+	}
+
+	/**
+	 * @param cost 낮을수록 먼저 실행한다
+	 */
+	private record Check(
+		int cost,
+		String expression
+	) {
+		static final int NULL = 0;
+		static final int RANGE = 1;
+		static final int TEXT = 2;
+	}
+
+	private record FieldPlan(
+		String name,
+		List<Check> checks,
+		String cascadeTarget,
+		boolean iterable
+	) {
+		String constantName() {
+			return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase() + "_VALIDATOR";
+		}
+	}
+}
@@ -0,0 +1,35 @@
+plugins {
+	java
+	id("org.springframework.boot") version "3.5.6"
+	id("io.spring.dependency-management") version "1.1.7"
+}
+
+group = "seunghun"
+version = "0.0.1-SNAPSHOT"
+description = "WebFlux counterpart of the handle validation pipeline"
+
+java {
+	toolchain {
+		languageVersion = JavaLanguageVersion.of(21)
+	}
+}
+
+repositories {
+	mavenCentral()
+}
+
+dependencies {
+	// DTO와 ErrorResponse/ErrorDetail, ValidationErrorMapper를 그대로 사용한다. 서블릿 스택은 가져오지 않는다
+	implementation(project(":")) {
+		exclude(group = "org.springframework.boot", module = "spring-boot-starter-web")
+	}
+	implementation("org.springframework.boot:spring-boot-starter-validation")
+	implementation("org.springframework.boot:spring-boot-starter-webflux")
+	testImplementation("org.springframework.boot:spring-boot-starter-test")
+	testImplementation("io.projectreactor:reactor-test")
+	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+tasks.withType<Test> {
+	useJUnitPlatform()
+}
@@ -0,0 +1,57 @@
+package seunghun.springvalidation.reactive;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import seunghun.springvalidation.handle.ErrorDetail;
+import seunghun.springvalidation.handle.ValidationErrorMapper;
+import seunghun.springvalidation.handle.stream.StreamValidationException;
+
+/**
+ * 디코딩되는 요소를 하나씩 검증한다. 요청한 만큼만 업스트림에서 읽으므로 backpressure가 그대로 적용된다.
+ * 실패가 확정되면 요소를 더 내보내지 않고, 에러 수가 errorBudget에 도달한 뒤 다음 요소가 오면 업스트림을 취소해 나머지 본문을 읽지 않는다.
+ * errorBudget이 0 이하이면 에러 수를 제한하지 않는다.
+ */
+public final class FluxValidation {
+	private FluxValidation() {
+	}
+
+	public static <T> Flux<T> validate(Flux<T> source, Validator validator, ValidationErrorMapper validationErrorMapper, int errorBudget) {
+		int budget = errorBudget > 0 ? errorBudget : Integer.MAX_VALUE;
+
+		return Flux.defer(() -> {
+			List<ErrorDetail> errors = new ArrayList<>();
+
+			return source.index()
+				.<T>handle((indexed, sink) -> {
+					// 예산을 채운 뒤에 요소가 더 오면 그 요소부터는 검증하지 않으므로 잘린 것이다
+					if (errors.size() >= budget) {
+						sink.error(new StreamValidationException(List.copyOf(errors.subList(0, budget)), true));
+						return;
+					}
+
+					for (ConstraintViolation<T> violation : validator.validate(indexed.getT2())) {
+						errors.add(validationErrorMapper.toErrorDetail("[" + indexed.getT1() + "]." + violation.getPropertyPath(), violation));
+					}
+
+					if (errors.size() > budget) {
+						sink.error(new StreamValidationException(List.copyOf(errors.subList(0, budget)), true));
+						return;
+					}
+
+					if (errors.isEmpty()) {
+						sink.next(indexed.getT2());
+					}
+				})
+				.concatWith(Mono.defer(() -> errors.isEmpty()
+					? Mono.empty()
+					: Mono.error(new StreamValidationException(List.copyOf(errors), false))));
+		});
+	}
+}
@@ -0,0 +1,82 @@
+package seunghun.springvalidation.reactive;
+
+import java.util.List;
+
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+
+import seunghun.springvalidation.handle.ErrorDetail;
+import seunghun.springvalidation.handle.ErrorResponse;
+import seunghun.springvalidation.handle.RejectedValuePolicy;
+import seunghun.springvalidation.handle.ValidationErrorMapper;
+import seunghun.springvalidation.handle.stream.StreamValidationException;
+
+/**
+ * {@link seunghun.springvalidation.handle.GlobalExceptionHandler}와 같은 ErrorResponse로 응답한다
+ */
+@RestControllerAdvice("seunghun.springvalidation.reactive")
+public class ReactiveGlobalExceptionHandler {
+	private static final String TYPE_MISMATCH_MESSAGE = "숫자 형식이 올바르지 않습니다";
+
+	private final ValidationErrorMapper validationErrorMapper;
+
+	public ReactiveGlobalExceptionHandler(ObjectProvider<RejectedValuePolicy> rejectedValuePolicy) {
+		this.validationErrorMapper = new ValidationErrorMapper(rejectedValuePolicy.getIfAvailable(() -> RejectedValuePolicy.DEFAULT));
+	}
+
+	@ExceptionHandler(HandlerMethodValidationException.class)
+	public ResponseEntity<ErrorResponse> handleHandlerMethodValidationException(
+		HandlerMethodValidationException exception,
+		ServerWebExchange exchange
+	) {
+		List<ErrorDetail> errorDetails = validationErrorMapper.toErrorDetails(exception);
+
+		return ResponseEntity.badRequest().body(ErrorResponse.of(ValidationErrorMapper.MESSAGE, getPath(exchange), errorDetails));
+	}
+
+	// @Valid Mono<T> 본문 검증 실패. WebExchangeBindException은 BindingResult를 구현한다
+	@ExceptionHandler(WebExchangeBindException.class)
+	public ResponseEntity<ErrorResponse> handleWebExchangeBindException(
+		WebExchangeBindException exception,
+		ServerWebExchange exchange
+	) {
+		List<ErrorDetail> errorDetails = validationErrorMapper.toErrorDetails(exception.getBindingResult());
+
+		return ResponseEntity.badRequest().body(ErrorResponse.of(ValidationErrorMapper.MESSAGE, getPath(exchange), errorDetails));
+	}
+
+	@ExceptionHandler(StreamValidationException.class)
+	public ResponseEntity<ErrorResponse> handleStreamValidationException(
+		StreamValidationException exception,
+		ServerWebExchange exchange
+	) {
+		return ResponseEntity.badRequest().body(ErrorResponse.of(ValidationErrorMapper.MESSAGE, getPath(exchange), exception.getErrors(), exception.isTruncated()));
+	}
+
+	// 파라미터 타입 변환 실패. 본문 역직렬화 실패 등 그 밖의 입력 오류는 기본 처리에 맡긴다
+	@ExceptionHandler(ServerWebInputException.class)
+	public ResponseEntity<?> handleServerWebInputException(
+		ServerWebInputException exception,
+		ServerWebExchange exchange
+	) {
+		MethodParameter parameter = exception.getMethodParameter();
+		if (!(exception.getCause() instanceof TypeMismatchException typeMismatchException) || parameter == null) {
+			return ResponseEntity.status(exception.getStatusCode()).body(exception.getBody());
+		}
+
+		ErrorDetail errorDetail = validationErrorMapper.toErrorDetail(parameter.getParameterName(), typeMismatchException.getValue(), TYPE_MISMATCH_MESSAGE, "TypeMismatch");
+		return ResponseEntity.badRequest().body(ErrorResponse.of(ValidationErrorMapper.MESSAGE, getPath(exchange), errorDetail));
+	}
+
+	private static String getPath(ServerWebExchange exchange) {
+		return exchange.getRequest().getPath().value();
+	}
+}
@@ -0,0 +1,20 @@
+package seunghun.springvalidation.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+import seunghun.springvalidation.handle.RejectedValueConfig;
+
+/**
+ * Netty 위에서 handle 검증 파이프라인을 WebFlux로 제공한다. 서블릿 애플리케이션의 설정 클래스는 스캔하지 않는다.
+ */
+@SpringBootApplication
+@Import(RejectedValueConfig.class)
+public class ReactiveValidationApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ReactiveValidationApplication.class, args);
+	}
+
+}
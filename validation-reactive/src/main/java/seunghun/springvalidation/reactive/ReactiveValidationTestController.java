@@ -0,0 +1,89 @@
+package seunghun.springvalidation.reactive;
+
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import seunghun.springvalidation.handle.RejectedValuePolicy;
+import seunghun.springvalidation.handle.ValidationErrorMapper;
+import seunghun.springvalidation.handle.dto.ContentDto;
+import seunghun.springvalidation.handle.dto.GroupDto;
+import seunghun.springvalidation.handle.dto.UserDto;
+
+/**
+ * {@link seunghun.springvalidation.handle.ValidationTestController}와 같은 경로, 같은 검증 규칙의 WebFlux 버전
+ */
+@RestController
+@RequestMapping("/handle/api/test")
+public class ReactiveValidationTestController {
+	private final Validator validator;
+	private final ValidationErrorMapper validationErrorMapper;
+	private final int errorBudget;
+
+	public ReactiveValidationTestController(
+		Validator validator,
+		ObjectProvider<RejectedValuePolicy> rejectedValuePolicy,
+		@Value("${validation.stream.error-budget:100}") int errorBudget
+	) {
+		this.validator = validator;
+		this.validationErrorMapper = new ValidationErrorMapper(rejectedValuePolicy.getIfAvailable(() -> RejectedValuePolicy.DEFAULT));
+		this.errorBudget = errorBudget;
+	}
+
+	@RequestMapping("/hello")
+	public Mono<String> hello() {
+		return Mono.just("Hello World");
+	}
+
+	@RequestMapping("/single-param")
+	public Mono<String> singleParam(
+		@RequestParam @Min(10) int age
+	) {
+		return Mono.just("age is " + age);
+	}
+
+	@RequestMapping("/multiple-param")
+	public Mono<String> multipleParam(
+		@RequestParam @Positive @Min(1) Integer page,
+		@RequestParam @Min(1) @Max(100) int size,
+		@RequestParam @NotBlank String keyword
+	) {
+		return Mono.just("page: " + page + ", size: " + size + ", keyword: " + keyword);
+	}
+
+	@PostMapping("/request-body")
+	public Mono<String> requestBody(@RequestBody @Valid Mono<UserDto> user) {
+		return user.map(value -> "user: " + value.name());
+	}
+
+	@PostMapping("/nested")
+	public Mono<String> nested(@RequestBody @Valid Mono<ContentDto> content) {
+		return content.map(value -> "content: " + value.content() + ", user: " + value.user().name());
+	}
+
+	@PostMapping("/nested-list")
+	public Mono<String> nestedList(@RequestBody @Valid Mono<GroupDto> group) {
+		return group.map(value -> "group name: " + value.name() + ", users: " + value.users());
+	}
+
+	@PostMapping("/users-list")
+	public Mono<String> usersList(@RequestBody Flux<UserDto> users) {
+		return FluxValidation.validate(users, validator, validationErrorMapper, errorBudget)
+			.count()
+			.map(count -> "users count: " + count);
+	}
+}
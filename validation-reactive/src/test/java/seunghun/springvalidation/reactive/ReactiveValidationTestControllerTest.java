@@ -0,0 +1,154 @@
+package seunghun.springvalidation.reactive;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.*;
+
+import java.time.Duration;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import seunghun.springvalidation.handle.RejectedValuePolicy;
+import seunghun.springvalidation.handle.ValidationErrorMapper;
+import seunghun.springvalidation.handle.dto.UserDto;
+import seunghun.springvalidation.handle.stream.StreamValidationException;
+
+/**
+ * 서블릿 버전과 같은 ErrorResponse/ErrorDetail로 응답한다
+ */
+@WebFluxTest(ReactiveValidationTestController.class)
+class ReactiveValidationTestControllerTest {
+	@Autowired
+	WebTestClient webTestClient;
+
+	@Test
+	void singleParamInvalid() {
+		webTestClient.get().uri("/handle/api/test/single-param?age=1")
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectBody()
+			.jsonPath("$.message").isEqualTo("입력값 검증에 실패했습니다")
+			.jsonPath("$.path").isEqualTo("/handle/api/test/single-param")
+			.jsonPath("$.errors[0].field").isEqualTo("age")
+			.jsonPath("$.errors[0].rejectedValue").isEqualTo(1);
+	}
+
+	@Test
+	void singleParamTypeMismatch() {
+		webTestClient.get().uri("/handle/api/test/single-param?age=abc")
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectBody()
+			.jsonPath("$.errors[0].field").isEqualTo("age")
+			.jsonPath("$.errors[0].rejectedValue").isEqualTo("abc");
+	}
+
+	@Test
+	void multipleParamInvalid() {
+		webTestClient.get().uri("/handle/api/test/multiple-param?page=0&size=101&keyword=")
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectBody()
+			.jsonPath("$.errors[*].field").value(hasItems("page", "size", "keyword"));
+	}
+
+	@Test
+	void requestBodyInvalid() {
+		webTestClient.post().uri("/handle/api/test/request-body")
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue("{\"name\":\"\",\"age\":5}")
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectBody()
+			.jsonPath("$.errors[*].field").value(containsInAnyOrder("name", "age"))
+			.jsonPath("$.truncated").isEqualTo(false);
+	}
+
+	@Test
+	void nestedInvalid() {
+		webTestClient.post().uri("/handle/api/test/nested")
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue("{\"content\":\"hi\",\"user\":{\"name\":\"\",\"age\":20}}")
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectBody()
+			.jsonPath("$.errors[0].field").isEqualTo("user.name");
+	}
+
+	@Test
+	void usersListValid() {
+		webTestClient.post().uri("/handle/api/test/users-list")
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue("[{\"name\":\"a\",\"age\":20},{\"name\":\"b\",\"age\":30}]")
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody(String.class).isEqualTo("users count: 2");
+	}
+
+	@Test
+	void usersListInvalid() {
+		webTestClient.post().uri("/handle/api/test/users-list")
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue("[{\"name\":\"\",\"age\":5},{\"name\":\"b\",\"age\":30},{\"name\":\"\",\"age\":20}]")
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectBody()
+			.jsonPath("$.errors[*].field").value(containsInAnyOrder("[0].name", "[0].age", "[2].name"))
+			.jsonPath("$.truncated").isEqualTo(false);
+	}
+
+	@Test
+	void errorBudgetCancelsUpstream() {
+		Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+		Flux<UserDto> users = Flux.range(0, 1_000).map(i -> new UserDto("", 20));
+
+		StepVerifier.create(FluxValidation.validate(users, validator, new ValidationErrorMapper(RejectedValuePolicy.DEFAULT), 2))
+			.expectErrorSatisfies(error -> {
+				StreamValidationException exception = (StreamValidationException)error;
+				assertThat(exception.isTruncated()).isTrue();
+				assertThat(exception.getErrors()).extracting("field").containsExactly("[0].name", "[1].name");
+			})
+			.verify(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void errorBudgetReachedAtLastElementIsNotTruncated() {
+		Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+		Flux<UserDto> users = Flux.just(new UserDto("", 20), new UserDto("", 20));
+
+		StepVerifier.create(FluxValidation.validate(users, validator, new ValidationErrorMapper(RejectedValuePolicy.DEFAULT), 2))
+			.expectErrorSatisfies(error -> {
+				StreamValidationException exception = (StreamValidationException)error;
+				assertThat(exception.isTruncated()).isFalse();
+				assertThat(exception.getErrors()).extracting("field").containsExactly("[0].name", "[1].name");
+			})
+			.verify(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void nonPositiveErrorBudgetIsUnlimited() {
+		Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+		ValidationErrorMapper validationErrorMapper = new ValidationErrorMapper(RejectedValuePolicy.DEFAULT);
+
+		StepVerifier.create(FluxValidation.validate(Flux.just(new UserDto("kim", 20), new UserDto("lee", 30)), validator, validationErrorMapper, 0))
+			.expectNextCount(2)
+			.verifyComplete();
+
+		StepVerifier.create(FluxValidation.validate(Flux.range(0, 3).map(i -> new UserDto("", 20)), validator, validationErrorMapper, 0))
+			.expectErrorSatisfies(error -> {
+				StreamValidationException exception = (StreamValidationException)error;
+				assertThat(exception.isTruncated()).isFalse();
+				assertThat(exception.getErrors()).extracting("field").containsExactly("[0].name", "[1].name", "[2].name");
+			})
+			.verify(Duration.ofSeconds(5));
+	}
+}